@@ -0,0 +1,81 @@
+package io.github.gabrielmmoraes1999.db.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+
+@SupportedAnnotationTypes("*")
+public class RepositoryProcessor extends AbstractProcessor {
+
+    static final String DB_REPOSITORY = "io.github.gabrielmmoraes1999.db.DBRepository";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getRootElements()) {
+            scan(element);
+        }
+
+        return false;
+    }
+
+    private void scan(Element element) {
+        if (element.getKind() == ElementKind.INTERFACE) {
+            TypeElement typeElement = (TypeElement) element;
+            DeclaredType repositoryType = findRepositoryType(typeElement);
+
+            if (repositoryType != null) {
+                generate(typeElement, repositoryType);
+            }
+        }
+
+        for (Element enclosed : element.getEnclosedElements()) {
+            if (enclosed.getKind().isClass() || enclosed.getKind().isInterface()) {
+                scan(enclosed);
+            }
+        }
+    }
+
+    private DeclaredType findRepositoryType(TypeElement typeElement) {
+        for (TypeMirror superInterface : typeElement.getInterfaces()) {
+            DeclaredType declaredType = (DeclaredType) superInterface;
+            TypeElement superElement = (TypeElement) declaredType.asElement();
+
+            if (superElement.getQualifiedName().contentEquals(DB_REPOSITORY) && declaredType.getTypeArguments().size() == 2) {
+                return declaredType;
+            }
+        }
+
+        return null;
+    }
+
+    private void generate(TypeElement typeElement, DeclaredType repositoryType) {
+        RepositoryWriter repositoryWriter = new RepositoryWriter(processingEnv, typeElement, repositoryType);
+
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(repositoryWriter.getQualifiedName(), typeElement);
+
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(repositoryWriter.write());
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Não foi possível gerar " + repositoryWriter.getQualifiedName() + ": " + ex.getMessage(), typeElement);
+        }
+    }
+
+}
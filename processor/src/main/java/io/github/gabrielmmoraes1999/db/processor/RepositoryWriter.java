@@ -0,0 +1,437 @@
+package io.github.gabrielmmoraes1999.db.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.util.*;
+
+class RepositoryWriter {
+
+    private static final String QUERY = "io.github.gabrielmmoraes1999.db.annotation.Query";
+    private static final String UPDATE = "io.github.gabrielmmoraes1999.db.annotation.Update";
+    private static final String DELETE = "io.github.gabrielmmoraes1999.db.annotation.Delete";
+    private static final String PARAM = "io.github.gabrielmmoraes1999.db.annotation.Param";
+    private static final String STREAM = "java.util.stream.Stream";
+    private static final String ITERATOR = "java.util.Iterator";
+    private static final String LIST = "java.util.List";
+    private static final String WRITER = "java.io.Writer";
+    private static final String OUTPUT_STREAM = "java.io.OutputStream";
+    private static final String CONSUMER = "java.util.function.Consumer";
+    private static final String PAGEABLE = "io.github.gabrielmmoraes1999.db.Pageable";
+    private static final String DERIVED_PATTERN = "(?i)^((find|read|get|query|search|stream)((First|Top)\\d*)?|count|exists|delete|remove)By.*$";
+    private static final String COUNT_PATTERN = "(?i)^countBy.*$";
+    private static final String EXISTS_PATTERN = "(?i)^existsBy.*$";
+    private static final String DELETE_PATTERN = "(?i)^(delete|remove)By.*$";
+
+    private final ProcessingEnvironment processingEnv;
+    private final TypeElement typeElement;
+    private final DeclaredType repositoryType;
+    private final String packageName;
+    private final String simpleName;
+
+    private final StringBuilder constants = new StringBuilder();
+    private final StringBuilder methods = new StringBuilder();
+    private int constantCounter = 0;
+
+    RepositoryWriter(ProcessingEnvironment processingEnv, TypeElement typeElement, DeclaredType repositoryType) {
+        this.processingEnv = processingEnv;
+        this.typeElement = typeElement;
+        this.repositoryType = repositoryType;
+        this.packageName = processingEnv.getElementUtils().getPackageOf(typeElement).getQualifiedName().toString();
+
+        StringBuilder name = new StringBuilder(typeElement.getSimpleName());
+        Element enclosing = typeElement.getEnclosingElement();
+
+        while (enclosing.getKind() != ElementKind.PACKAGE) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+            enclosing = enclosing.getEnclosingElement();
+        }
+
+        this.simpleName = name + "Impl";
+    }
+
+    String getQualifiedName() {
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    String write() {
+        String entityType = repositoryType.getTypeArguments().get(0).toString();
+        String idType = repositoryType.getTypeArguments().get(1).toString();
+        String entityClass = erasure(repositoryType.getTypeArguments().get(0)) + ".class";
+
+        for (ExecutableElement method : ElementFilter.methodsIn(typeElement.getEnclosedElements())) {
+            if (method.getModifiers().contains(Modifier.DEFAULT) || method.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+
+            writeMethod(method);
+        }
+
+        StringBuilder source = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+
+        source.append("/**\n")
+                .append(" * Generated from {@link ").append(typeElement.getQualifiedName()).append("}.\n")
+                .append(" * <p>\n")
+                .append(" * {@code @Query}, {@code @Update} and {@code @Delete} SQL is inlined below together with its bind order.\n")
+                .append(" * Derived query methods are only parsed from the method name, once, when this class is initialized:\n")
+                .append(" * their SQL depends on the entity mapping, which is read by reflection at runtime, so it is rendered\n")
+                .append(" * on the first call and cached. Methods with {@code In} conditions or a {@code First}/{@code Top}\n")
+                .append(" * limit are rendered on every call.\n")
+                .append(" */\n")
+                .append("@SuppressWarnings(\"unchecked\")\n")
+                .append("public class ").append(simpleName)
+                .append(" extends io.github.gabrielmmoraes1999.db.GeneratedRepository<").append(entityType).append(", ").append(idType).append(">")
+                .append(" implements ").append(typeElement.getQualifiedName()).append(" {\n\n")
+                .append(constants);
+
+        if (constants.length() > 0) {
+            source.append("\n");
+        }
+
+        source.append("    public ").append(simpleName).append("() {\n")
+                .append("        super(").append(entityClass).append(");\n")
+                .append("    }\n\n")
+                .append("    public ").append(simpleName).append("(java.sql.Connection connection) {\n")
+                .append("        super(").append(entityClass).append(", connection);\n")
+                .append("    }\n")
+                .append(methods)
+                .append("\n}\n");
+
+        return source.toString();
+    }
+
+    private void writeMethod(ExecutableElement method) {
+        String methodName = method.getSimpleName().toString();
+        TypeMirror returnType = method.getReturnType();
+        List<? extends VariableElement> parameters = method.getParameters();
+
+        methods.append("\n    @Override\n    public ").append(returnType).append(" ").append(methodName).append("(");
+
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                methods.append(", ");
+            }
+
+            methods.append(parameters.get(i).asType()).append(" ").append(parameters.get(i).getSimpleName());
+        }
+
+        methods.append(")");
+
+        if (!method.getThrownTypes().isEmpty()) {
+            StringJoiner thrownTypes = new StringJoiner(", ", " throws ", "");
+
+            for (TypeMirror thrownType : method.getThrownTypes()) {
+                thrownTypes.add(thrownType.toString());
+            }
+
+            methods.append(thrownTypes);
+        }
+
+        methods.append(" {\n");
+
+        AnnotationMirror query = annotation(method, QUERY);
+        AnnotationMirror update = annotation(method, UPDATE);
+        AnnotationMirror delete = annotation(method, DELETE);
+
+        boolean stream = isStream(returnType);
+        boolean forEach = isForEach(returnType, parameters);
+
+        if (query != null) {
+            String[] template = template(method, query);
+
+            if (isJsonTarget(parameters)) {
+                VariableElement target = parameters.get(parameters.size() - 1);
+                writeUpdateReturn(method, returnType, "executeJson(" + template[0] + ", " + template[1] + ", " + target.getSimpleName() + ")");
+            } else if (stream) {
+                String call = "executeStream(" + template[0] + ", " + classLiteral(returnType) + ", " + classListLiteral(returnType) + ", " + template[1] + ")";
+                writeReturn(returnType, call);
+            } else if (forEach) {
+                VariableElement consumer = parameters.get(parameters.size() - 1);
+                methods.append("        executeForEach(").append(template[0]).append(", ").append(classListLiteral(consumer.asType())).append(", ")
+                        .append(template[1]).append(", ").append(consumer.getSimpleName()).append(");\n");
+            } else {
+                String call = "executeQuery(" + template[0] + ", " + classLiteral(returnType) + ", " + classListLiteral(returnType) + ", " + template[1] + ")";
+                writeReturn(returnType, call);
+            }
+        } else if (update != null || delete != null) {
+            String[] template = template(method, update != null ? update : delete);
+            String call = "executeUpdate(" + template[0] + ", " + template[1] + ")";
+            writeUpdateReturn(method, returnType, call);
+        } else if (methodName.matches(DERIVED_PATTERN)) {
+            String constant = "QUERY_" + constantCounter++;
+            constants.append("    private static final io.github.gabrielmmoraes1999.db.parse.ParsedQuery ").append(constant)
+                    .append(" = io.github.gabrielmmoraes1999.db.parse.MethodNameParser.parse(").append(literal(methodName)).append(");\n");
+
+            if (methodName.matches(COUNT_PATTERN)) {
+                writeReturn(returnType, "executeCount(" + constant + ", " + classLiteral(returnType) + ", " + arguments(parameters) + ")");
+            } else if (methodName.matches(EXISTS_PATTERN)) {
+                writeReturn(returnType, "executeExists(" + constant + ", " + arguments(parameters) + ")");
+            } else if (methodName.matches(DELETE_PATTERN)) {
+                writeUpdateReturn(method, returnType, "executeDelete(" + constant + ", " + arguments(parameters) + ")");
+            } else if (isPaged(parameters)) {
+                VariableElement pageable = parameters.get(parameters.size() - 1);
+                writeReturn(returnType, "executePage(" + constant + ", " + classLiteral(returnType) + ", "
+                        + arguments(parameters.subList(0, parameters.size() - 1)) + ", " + pageable.getSimpleName() + ")");
+            } else if (stream) {
+                writeReturn(returnType, "executeStream(" + constant + ", " + classLiteral(returnType) + ", " + classListLiteral(returnType) + ", " + arguments(parameters) + ")");
+            } else if (forEach) {
+                VariableElement consumer = parameters.get(parameters.size() - 1);
+                methods.append("        executeForEach(").append(constant).append(", ").append(classListLiteral(consumer.asType())).append(", ")
+                        .append(arguments(parameters.subList(0, parameters.size() - 1))).append(", ").append(consumer.getSimpleName()).append(");\n");
+            } else {
+                String elementType = isList(returnType) ? classListLiteral(returnType) : classLiteral(returnType);
+                writeReturn(returnType, "executeQuery(" + constant + ", " + classLiteral(returnType) + ", " + elementType + ", " + arguments(parameters) + ")");
+            }
+        } else {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Método não suportado pelo repositório: " + methodName, method);
+            methods.append("        throw new UnsupportedOperationException(").append(literal("Unsupported method: " + methodName)).append(");\n");
+        }
+
+        methods.append("    }\n");
+    }
+
+    private boolean isStream(TypeMirror returnType) {
+        if (returnType.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+
+        String type = erasure(returnType);
+        return type.equals(STREAM) || type.equals(ITERATOR);
+    }
+
+    private boolean isJsonTarget(List<? extends VariableElement> parameters) {
+        if (parameters.isEmpty()) {
+            return false;
+        }
+
+        TypeMirror last = parameters.get(parameters.size() - 1).asType();
+        Elements elements = processingEnv.getElementUtils();
+        Types types = processingEnv.getTypeUtils();
+
+        return types.isAssignable(last, elements.getTypeElement(WRITER).asType())
+                || types.isAssignable(last, elements.getTypeElement(OUTPUT_STREAM).asType());
+    }
+
+    private boolean isList(TypeMirror returnType) {
+        return returnType.getKind() == TypeKind.DECLARED && erasure(returnType).equals(LIST);
+    }
+
+    private boolean isForEach(TypeMirror returnType, List<? extends VariableElement> parameters) {
+        if (returnType.getKind() != TypeKind.VOID || parameters.isEmpty()) {
+            return false;
+        }
+
+        TypeMirror last = parameters.get(parameters.size() - 1).asType();
+        return last.getKind() == TypeKind.DECLARED && erasure(last).equals(CONSUMER);
+    }
+
+    private boolean isPaged(List<? extends VariableElement> parameters) {
+        if (parameters.isEmpty()) {
+            return false;
+        }
+
+        TypeMirror last = parameters.get(parameters.size() - 1).asType();
+        return last.getKind() == TypeKind.DECLARED && erasure(last).equals(PAGEABLE);
+    }
+
+    private void writeReturn(TypeMirror returnType, String call) {
+        if (returnType.getKind() == TypeKind.VOID) {
+            methods.append("        ").append(call).append(";\n");
+        } else if (returnType.getKind().isPrimitive()) {
+            methods.append("        return (").append(processingEnv.getTypeUtils().boxedClass((PrimitiveType) returnType).getQualifiedName()).append(") ").append(call).append(";\n");
+        } else {
+            methods.append("        return (").append(returnType).append(") ").append(call).append(";\n");
+        }
+    }
+
+    private void writeUpdateReturn(ExecutableElement method, TypeMirror returnType, String call) {
+        String type = returnType.getKind().isPrimitive() ? returnType.toString() : erasure(returnType);
+
+        switch (type) {
+            case "void":
+                methods.append("        ").append(call).append(";\n");
+                break;
+            case "int":
+            case "java.lang.Integer":
+            case "java.lang.Number":
+            case "java.lang.Object":
+                methods.append("        return ").append(call).append(";\n");
+                break;
+            case "long":
+            case "java.lang.Long":
+                methods.append("        return (long) ").append(call).append(";\n");
+                break;
+            default:
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Tipo de retorno não suportado para @Update/@Delete: " + returnType, method);
+                methods.append("        throw new UnsupportedOperationException();\n");
+        }
+    }
+
+    private String[] template(ExecutableElement method, AnnotationMirror annotation) {
+        List<String> paramOrder = new ArrayList<>();
+        String sql = parse(annotationValue(annotation), paramOrder);
+        String constant = "SQL_" + constantCounter++;
+
+        Map<String, Integer> indexes = new HashMap<>();
+        List<? extends VariableElement> parameters = method.getParameters();
+        for (int index = 0; index < parameters.size(); index++) {
+            AnnotationMirror param = annotation(parameters.get(index), PARAM);
+
+            if (param != null) {
+                indexes.put(annotationValue(param).toUpperCase(), index);
+            }
+        }
+
+        StringJoiner argIndexes = new StringJoiner(", ", "new int[]{", "}");
+        for (String param : paramOrder) {
+            Integer index = indexes.get(param);
+
+            if (index == null) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Parâmetro não informado: :" + param, method);
+                continue;
+            }
+
+            argIndexes.add(String.valueOf(index));
+        }
+
+        constants.append("    private static final io.github.gabrielmmoraes1999.db.parse.CompiledTemplate ").append(constant)
+                .append(" = io.github.gabrielmmoraes1999.db.parse.CompiledTemplate.of(").append(literal(sql)).append(", ").append(argIndexes).append(");\n");
+
+        return new String[]{constant, arguments(parameters)};
+    }
+
+    private String arguments(List<? extends VariableElement> parameters) {
+        StringJoiner arguments = new StringJoiner(", ", "new Object[]{", "}");
+
+        for (VariableElement parameter : parameters) {
+            arguments.add(parameter.getSimpleName());
+        }
+
+        return arguments.toString();
+    }
+
+    private String classLiteral(TypeMirror type) {
+        if (type.getKind().isPrimitive() || type.getKind() == TypeKind.VOID) {
+            return type + ".class";
+        }
+
+        return erasure(type) + ".class";
+    }
+
+    private String classListLiteral(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return "null";
+        }
+
+        List<? extends TypeMirror> typeArguments = ((DeclaredType) type).getTypeArguments();
+        if (typeArguments.isEmpty() || typeArguments.get(0).getKind() != TypeKind.DECLARED) {
+            return "null";
+        }
+
+        return erasure(typeArguments.get(0)) + ".class";
+    }
+
+    private String erasure(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private static AnnotationMirror annotation(Element element, String annotationName) {
+        for (AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+            TypeElement annotationElement = (TypeElement) annotationMirror.getAnnotationType().asElement();
+
+            if (annotationElement.getQualifiedName().contentEquals(annotationName)) {
+                return annotationMirror;
+            }
+        }
+
+        return null;
+    }
+
+    private static String annotationValue(AnnotationMirror annotationMirror) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotationMirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value")) {
+                return String.valueOf(entry.getValue().getValue());
+            }
+        }
+
+        return "";
+    }
+
+    private static String parse(String sql, List<String> order) {
+        StringBuilder out = new StringBuilder();
+        StringBuilder buffer = new StringBuilder();
+
+        boolean readingParam = false;
+
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+
+            if (c == ':') {
+                readingParam = true;
+                buffer.setLength(0);
+                out.append('?');
+                continue;
+            }
+
+            if (readingParam) {
+                if (Character.isLetterOrDigit(c) || c == '_') {
+                    buffer.append(c);
+                } else {
+                    readingParam = false;
+                    order.add(buffer.toString().toUpperCase());
+                    out.append(c);
+                }
+            } else {
+                out.append(c);
+            }
+        }
+
+        if (readingParam) {
+            order.add(buffer.toString().toUpperCase());
+        }
+
+        return out.toString();
+    }
+
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    literal.append(c);
+            }
+        }
+
+        return literal.append('"').toString();
+    }
+
+}
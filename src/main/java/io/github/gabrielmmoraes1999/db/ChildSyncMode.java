@@ -0,0 +1,6 @@
+package io.github.gabrielmmoraes1999.db;
+
+public enum ChildSyncMode {
+    REPLACE,
+    MERGE
+}
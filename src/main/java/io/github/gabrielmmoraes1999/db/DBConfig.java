@@ -0,0 +1,101 @@
+package io.github.gabrielmmoraes1999.db;
+
+import java.util.Objects;
+
+public class DBConfig {
+
+    private static volatile int batchSize = 1000;
+    private static volatile int maxBindParameters = 32767;
+    private static volatile InsertMode insertMode = InsertMode.BATCH;
+    private static volatile Dialect dialect;
+    private static volatile boolean reloadOnSave = true;
+    private static volatile ChildSyncMode childSyncMode = ChildSyncMode.REPLACE;
+    private static volatile boolean dirtyTracking = false;
+    private static volatile int fetchSize = 0;
+    private static volatile boolean compactRows = false;
+
+    public static int getBatchSize() {
+        return batchSize;
+    }
+
+    public static void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be greater than zero.");
+        }
+
+        DBConfig.batchSize = batchSize;
+    }
+
+    public static int getMaxBindParameters() {
+        return maxBindParameters;
+    }
+
+    public static void setMaxBindParameters(int maxBindParameters) {
+        if (maxBindParameters < 1) {
+            throw new IllegalArgumentException("The bind parameter limit must be greater than zero.");
+        }
+
+        DBConfig.maxBindParameters = maxBindParameters;
+    }
+
+    public static InsertMode getInsertMode() {
+        return insertMode;
+    }
+
+    public static void setInsertMode(InsertMode insertMode) {
+        DBConfig.insertMode = Objects.requireNonNull(insertMode);
+    }
+
+    public static Dialect getDialect() {
+        return dialect;
+    }
+
+    public static void setDialect(Dialect dialect) {
+        DBConfig.dialect = dialect;
+    }
+
+    public static boolean isReloadOnSave() {
+        return reloadOnSave;
+    }
+
+    public static void setReloadOnSave(boolean reloadOnSave) {
+        DBConfig.reloadOnSave = reloadOnSave;
+    }
+
+    public static ChildSyncMode getChildSyncMode() {
+        return childSyncMode;
+    }
+
+    public static void setChildSyncMode(ChildSyncMode childSyncMode) {
+        DBConfig.childSyncMode = Objects.requireNonNull(childSyncMode);
+    }
+
+    public static boolean isDirtyTracking() {
+        return dirtyTracking;
+    }
+
+    public static void setDirtyTracking(boolean dirtyTracking) {
+        DBConfig.dirtyTracking = dirtyTracking;
+    }
+
+    public static int getFetchSize() {
+        return fetchSize;
+    }
+
+    public static void setFetchSize(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("The fetch size must not be negative.");
+        }
+
+        DBConfig.fetchSize = fetchSize;
+    }
+
+    public static boolean isCompactRows() {
+        return compactRows;
+    }
+
+    public static void setCompactRows(boolean compactRows) {
+        DBConfig.compactRows = compactRows;
+    }
+
+}
@@ -1,5 +1,6 @@
 package io.github.gabrielmmoraes1999.db;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface DBRepository<T, ID> {
@@ -16,8 +17,14 @@ public interface DBRepository<T, ID> {
 
     T findById(ID id);
 
+    List<T> findAllById(Collection<ID> ids);
+
     List<T> findAll();
 
+    Slice<T> findAll(Pageable pageable);
+
     Integer deleteById(ID id);
 
+    Integer deleteAllById(Collection<ID> ids);
+
 }
@@ -0,0 +1,246 @@
+package io.github.gabrielmmoraes1999.db;
+
+import io.github.gabrielmmoraes1999.db.core.ColumnMetadata;
+import io.github.gabrielmmoraes1999.db.core.EntityMetadata;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+public enum Dialect {
+    GENERIC,
+    POSTGRESQL,
+    MYSQL,
+    H2,
+    ORACLE,
+    SQLSERVER,
+    FIREBIRD;
+
+    private static final Map<String, Dialect> DETECTED = new ConcurrentHashMap<>();
+
+    public static Dialect of(Connection connection) throws SQLException {
+        Dialect dialect = DBConfig.getDialect();
+
+        if (dialect != null) {
+            return dialect;
+        }
+
+        DatabaseMetaData metaData = connection.getMetaData();
+        String url = metaData.getURL();
+        dialect = url == null ? null : DETECTED.get(url);
+
+        if (dialect == null) {
+            dialect = fromProductName(metaData.getDatabaseProductName());
+
+            if (url != null) {
+                DETECTED.put(url, dialect);
+            }
+        }
+
+        return dialect;
+    }
+
+    public static Dialect fromProductName(String productName) {
+        String name = productName == null ? "" : productName.toLowerCase(Locale.ROOT);
+
+        if (name.contains("postgres")) {
+            return POSTGRESQL;
+        } else if (name.contains("mysql") || name.contains("mariadb")) {
+            return MYSQL;
+        } else if (name.contains("h2")) {
+            return H2;
+        } else if (name.contains("oracle")) {
+            return ORACLE;
+        } else if (name.contains("microsoft") || name.contains("sql server")) {
+            return SQLSERVER;
+        } else if (name.contains("firebird")) {
+            return FIREBIRD;
+        }
+
+        return GENERIC;
+    }
+
+    public int maxBindParameters() {
+        switch (this) {
+            case POSTGRESQL:
+            case H2:
+                return 32767;
+            case MYSQL:
+                return 65535;
+            case SQLSERVER:
+                return 2000;
+            case ORACLE:
+                return 1000;
+            case FIREBIRD:
+                return 1500;
+            default:
+                return 999;
+        }
+    }
+
+    public boolean supportsRowValueIn() {
+        switch (this) {
+            case POSTGRESQL:
+            case MYSQL:
+            case H2:
+            case ORACLE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public String limitClause() {
+        switch (this) {
+            case POSTGRESQL:
+            case MYSQL:
+            case H2:
+                return "LIMIT ? OFFSET ?";
+            default:
+                return "OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
+        }
+    }
+
+    public Object[] limitArguments(long offset, int limit) {
+        switch (this) {
+            case POSTGRESQL:
+            case MYSQL:
+            case H2:
+                return new Object[]{limit, offset};
+            default:
+                return new Object[]{offset, limit};
+        }
+    }
+
+    public String limitRows(String sql, int rows) {
+        switch (this) {
+            case POSTGRESQL:
+            case MYSQL:
+            case H2:
+                return sql + " LIMIT " + rows;
+            case SQLSERVER:
+                return "SELECT TOP " + rows + sql.substring("SELECT".length());
+            case FIREBIRD:
+                return "SELECT FIRST " + rows + sql.substring("SELECT".length());
+            default:
+                return sql + " FETCH FIRST " + rows + " ROWS ONLY";
+        }
+    }
+
+    public boolean supportsUpsert() {
+        return this != GENERIC;
+    }
+
+    public String upsertSql(EntityMetadata metadata, List<ColumnMetadata> columns) {
+        List<ColumnMetadata> primaryKeys = metadata.requirePrimaryKeys();
+        List<ColumnMetadata> nonPrimaryKeys = metadata.getNonPrimaryKeys();
+        String table = metadata.getTableName();
+
+        switch (this) {
+            case POSTGRESQL: {
+                StringJoiner set = new StringJoiner(", ");
+                for (ColumnMetadata column : nonPrimaryKeys) {
+                    set.add(column.getName() + " = " + (columns.contains(column) ? "EXCLUDED." + column.getName() : "NULL"));
+                }
+
+                return String.format("INSERT INTO %s (%s) VALUES (%s) ON CONFLICT (%s) %s",
+                        table, names(columns, ""), placeholders(columns), names(primaryKeys, ""),
+                        nonPrimaryKeys.isEmpty() ? "DO NOTHING" : "DO UPDATE SET " + set);
+            }
+            case MYSQL: {
+                StringJoiner set = new StringJoiner(", ");
+                for (ColumnMetadata column : nonPrimaryKeys.isEmpty() ? primaryKeys : nonPrimaryKeys) {
+                    set.add(column.getName() + " = " + (columns.contains(column) ? "VALUES(" + column.getName() + ")" : "NULL"));
+                }
+
+                return String.format("INSERT INTO %s (%s) VALUES (%s) ON DUPLICATE KEY UPDATE %s",
+                        table, names(columns, ""), placeholders(columns), set);
+            }
+            case H2:
+            case FIREBIRD: {
+                StringJoiner on = new StringJoiner(" AND ");
+                for (ColumnMetadata column : primaryKeys) {
+                    on.add("t." + column.getName() + " = ?");
+                }
+
+                StringJoiner set = new StringJoiner(", ");
+                for (ColumnMetadata column : nonPrimaryKeys) {
+                    set.add(column.getName() + " = " + (columns.contains(column) ? "?" : "NULL"));
+                }
+
+                return String.format("MERGE INTO %s t USING %s ON (%s)%s WHEN NOT MATCHED THEN INSERT (%s) VALUES (%s)",
+                        table, this == H2 ? "(SELECT 1) s" : "RDB$DATABASE s", on,
+                        nonPrimaryKeys.isEmpty() ? "" : " WHEN MATCHED THEN UPDATE SET " + set,
+                        names(columns, ""), placeholders(columns));
+            }
+            case ORACLE:
+            case SQLSERVER: {
+                StringJoiner source = new StringJoiner(", ");
+                for (ColumnMetadata column : columns) {
+                    source.add("? AS " + column.getName());
+                }
+
+                StringJoiner on = new StringJoiner(" AND ");
+                for (ColumnMetadata column : primaryKeys) {
+                    on.add("t." + column.getName() + " = s." + column.getName());
+                }
+
+                StringJoiner set = new StringJoiner(", ");
+                for (ColumnMetadata column : nonPrimaryKeys) {
+                    set.add("t." + column.getName() + " = " + (columns.contains(column) ? "s." + column.getName() : "NULL"));
+                }
+
+                return String.format("MERGE INTO %s t USING (SELECT %s%s) s ON (%s)%s WHEN NOT MATCHED THEN INSERT (%s) VALUES (%s)%s",
+                        table, source, this == ORACLE ? " FROM DUAL" : "", on,
+                        nonPrimaryKeys.isEmpty() ? "" : " WHEN MATCHED THEN UPDATE SET " + set,
+                        names(columns, ""), names(columns, "s."), this == SQLSERVER ? ";" : "");
+            }
+            default:
+                throw new UnsupportedOperationException("Upsert not supported for dialect " + this);
+        }
+    }
+
+    public List<ColumnMetadata> upsertParameters(EntityMetadata metadata, List<ColumnMetadata> columns) {
+        if (this != H2 && this != FIREBIRD) {
+            return columns;
+        }
+
+        List<ColumnMetadata> parameters = new ArrayList<>(metadata.requirePrimaryKeys());
+
+        for (ColumnMetadata column : metadata.getNonPrimaryKeys()) {
+            if (columns.contains(column)) {
+                parameters.add(column);
+            }
+        }
+
+        parameters.addAll(columns);
+        return parameters;
+    }
+
+    private static String names(List<ColumnMetadata> columns, String prefix) {
+        StringJoiner names = new StringJoiner(", ");
+
+        for (ColumnMetadata column : columns) {
+            names.add(prefix + column.getName());
+        }
+
+        return names.toString();
+    }
+
+    private static String placeholders(List<ColumnMetadata> columns) {
+        StringJoiner placeholders = new StringJoiner(", ");
+
+        for (int i = 0; i < columns.size(); i++) {
+            placeholders.add("?");
+        }
+
+        return placeholders.toString();
+    }
+
+}
@@ -0,0 +1,194 @@
+package io.github.gabrielmmoraes1999.db;
+
+import io.github.gabrielmmoraes1999.db.core.ProjectionMetadata;
+import io.github.gabrielmmoraes1999.db.parse.CompiledTemplate;
+import io.github.gabrielmmoraes1999.db.parse.ParsedQuery;
+import io.github.gabrielmmoraes1999.db.parse.SqlRenderer;
+import io.github.gabrielmmoraes1999.db.sql.*;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+public abstract class GeneratedRepository<T, ID> implements DBRepository<T, ID> {
+
+    protected final Class<T> entityClass;
+    private final Connection connectionGlobal;
+    private final Map<ParsedQuery, String> sqlCache = new ConcurrentHashMap<>();
+
+    protected GeneratedRepository(Class<T> entityClass) {
+        this(entityClass, DataBase.conn);
+    }
+
+    protected GeneratedRepository(Class<T> entityClass, Connection connectionGlobal) {
+        this.entityClass = entityClass;
+        this.connectionGlobal = connectionGlobal;
+    }
+
+    @Override
+    public Integer insert(T entity) {
+        return execute(false, connection -> DML.insertCascade(entity, connection));
+    }
+
+    @Override
+    public Integer insertAll(List<T> entityList) {
+        return execute(true, connection -> RepositoryOperations.insertAll(entityList, connection));
+    }
+
+    @Override
+    public Integer update(T entity) {
+        return execute(false, connection -> DML.updateCascade(entity, connection));
+    }
+
+    @Override
+    public T save(T entity) {
+        return execute(false, connection -> RepositoryOperations.save(entity, connection));
+    }
+
+    @Override
+    public List<T> saveAll(List<T> entityList) {
+        return execute(true, connection -> RepositoryOperations.saveAll(entityList, connection));
+    }
+
+    @Override
+    public T findById(ID id) {
+        return execute(false, connection -> DQL.findById(entityClass, id, connection));
+    }
+
+    @Override
+    public List<T> findAllById(Collection<ID> ids) {
+        return execute(false, connection -> DQL.findAllById(entityClass, ids, connection));
+    }
+
+    @Override
+    public List<T> findAll() {
+        return execute(false, connection -> DQL.findAll(entityClass, connection));
+    }
+
+    @Override
+    public Slice<T> findAll(Pageable pageable) {
+        return execute(false, connection -> DQL.findPage(entityClass, null, null, pageable, connection));
+    }
+
+    @Override
+    public Integer deleteById(ID id) {
+        return execute(false, connection -> DML.deleteById(id, entityClass, connection));
+    }
+
+    @Override
+    public Integer deleteAllById(Collection<ID> ids) {
+        return execute(true, connection -> DML.deleteAllById(ids, entityClass, connection));
+    }
+
+    protected Object executeQuery(ParsedQuery query, Class<?> returnType, Object[] args) {
+        return execute(false, connection -> DQL.handleQuery(entityClass, render(query, null, args, connection), returnType, args, connection));
+    }
+
+    protected Object executeQuery(ParsedQuery query, Class<?> returnType, Class<?> elementType, Object[] args) {
+        if (!ProjectionMetadata.isProjection(entityClass, elementType)) {
+            return executeQuery(query, returnType, args);
+        }
+
+        ProjectionMetadata projection = ProjectionMetadata.of(entityClass, elementType);
+        return execute(false, connection -> DQL.handleProjection(projection, render(query, projection, args, connection), returnType, args, connection));
+    }
+
+    protected Object executeCount(ParsedQuery query, Class<?> returnType, Object[] args) {
+        return execute(false, connection -> DQL.handleCount(render(query, null, args, connection), returnType, args, connection));
+    }
+
+    protected boolean executeExists(ParsedQuery query, Object[] args) {
+        return execute(false, connection -> DQL.handleExists(render(query, null, args, connection), args, connection));
+    }
+
+    protected int executeDelete(ParsedQuery query, Object[] args) {
+        return execute(false, connection -> DML.delete(render(query, null, args, connection), args, connection));
+    }
+
+    protected Object executeQuery(CompiledTemplate template, Class<?> returnType, Class<?> classList, Object[] args) {
+        return execute(false, connection -> DQLCustom.query(entityClass, returnType, classList, template, args, connection));
+    }
+
+    protected Object executePage(ParsedQuery query, Class<?> returnType, Object[] args, Pageable pageable) {
+        Slice<T> page = execute(false, connection -> DQL.findPage(entityClass, query, args, pageable, connection));
+        return Slice.class.isAssignableFrom(returnType) ? page : page.getContent();
+    }
+
+    protected Object executeStream(ParsedQuery query, Class<?> returnType, Object[] args) {
+        return unchecked(() -> RepositoryOperations.stream(connectionGlobal, returnType, connection ->
+                DQL.openCursor(entityClass, SqlRenderer.orderByRoot(query, entityClass, render(query, null, args, connection)), args, connection)
+        ));
+    }
+
+    protected Object executeStream(ParsedQuery query, Class<?> returnType, Class<?> elementType, Object[] args) {
+        if (!ProjectionMetadata.isProjection(entityClass, elementType)) {
+            return executeStream(query, returnType, args);
+        }
+
+        ProjectionMetadata projection = ProjectionMetadata.of(entityClass, elementType);
+        return unchecked(() -> RepositoryOperations.stream(connectionGlobal, returnType, connection -> DQL.openProjectionCursor(projection, render(query, projection, args, connection), args, connection)));
+    }
+
+    protected Object executeStream(CompiledTemplate template, Class<?> returnType, Class<?> classList, Object[] args) {
+        return unchecked(() -> RepositoryOperations.stream(connectionGlobal, returnType, connection -> DQLCustom.openCursor(entityClass, classList, template, args, connection)));
+    }
+
+    protected void executeForEach(ParsedQuery query, Object[] args, Consumer<?> consumer) {
+        unchecked(() -> RepositoryOperations.forEach(connectionGlobal, consumer, connection ->
+                DQL.openCursor(entityClass, SqlRenderer.orderByRoot(query, entityClass, render(query, null, args, connection)), args, connection)
+        ));
+    }
+
+    protected void executeForEach(ParsedQuery query, Class<?> elementType, Object[] args, Consumer<?> consumer) {
+        if (!ProjectionMetadata.isProjection(entityClass, elementType)) {
+            executeForEach(query, args, consumer);
+            return;
+        }
+
+        ProjectionMetadata projection = ProjectionMetadata.of(entityClass, elementType);
+        unchecked(() -> RepositoryOperations.forEach(connectionGlobal, consumer, connection -> DQL.openProjectionCursor(projection, render(query, projection, args, connection), args, connection)));
+    }
+
+    protected void executeForEach(CompiledTemplate template, Class<?> classList, Object[] args, Consumer<?> consumer) {
+        unchecked(() -> RepositoryOperations.forEach(connectionGlobal, consumer, connection -> DQLCustom.openCursor(entityClass, classList, template, args, connection)));
+    }
+
+    protected int executeJson(CompiledTemplate template, Object[] args, Object target) {
+        return execute(false, connection -> DQLCustom.writeJson(template, args, target, connection));
+    }
+
+    protected int executeUpdate(CompiledTemplate template, Object[] args) {
+        return execute(false, connection -> DMLCustom.execute(template, args, connection));
+    }
+
+    private String render(ParsedQuery query, ProjectionMetadata projection, Object[] args, Connection connection) throws SQLException {
+        if (query.limit > 0) {
+            return SqlRenderer.toSql(query, entityClass, args, projection, Dialect.of(connection));
+        } else if (SqlRenderer.isStatic(query)) {
+            return sqlCache.computeIfAbsent(query, key -> SqlRenderer.toSql(key, entityClass, null, projection));
+        }
+
+        return SqlRenderer.toSql(query, entityClass, args, projection);
+    }
+
+    private <R> R execute(boolean batch, RepositoryOperations.SqlCall<R> call) {
+        return unchecked(() -> RepositoryOperations.execute(connectionGlobal, batch, call));
+    }
+
+    private static <R> R unchecked(Callable<R> call) {
+        try {
+            return call.call();
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new UndeclaredThrowableException(ex);
+        }
+    }
+
+}
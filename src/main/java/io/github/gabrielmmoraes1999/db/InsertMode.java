@@ -0,0 +1,6 @@
+package io.github.gabrielmmoraes1999.db;
+
+public enum InsertMode {
+    BATCH,
+    MULTI_VALUES
+}
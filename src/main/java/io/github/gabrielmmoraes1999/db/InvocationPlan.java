@@ -0,0 +1,267 @@
+package io.github.gabrielmmoraes1999.db;
+
+import io.github.gabrielmmoraes1999.db.annotation.Delete;
+import io.github.gabrielmmoraes1999.db.annotation.Query;
+import io.github.gabrielmmoraes1999.db.annotation.Update;
+import io.github.gabrielmmoraes1999.db.core.EntityMetadata;
+import io.github.gabrielmmoraes1999.db.core.JsonRowWriter;
+import io.github.gabrielmmoraes1999.db.core.ProjectionMetadata;
+import io.github.gabrielmmoraes1999.db.core.ResultCursor;
+import io.github.gabrielmmoraes1999.db.parse.CompiledTemplate;
+import io.github.gabrielmmoraes1999.db.parse.MethodNameParser;
+import io.github.gabrielmmoraes1999.db.parse.ParsedQuery;
+import io.github.gabrielmmoraes1999.db.parse.QueryType;
+import io.github.gabrielmmoraes1999.db.parse.SqlRenderer;
+import io.github.gabrielmmoraes1999.db.sql.*;
+import io.github.gabrielmmoraes1999.db.util.Function;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+final class InvocationPlan {
+
+    private final String methodName;
+    private final Invoker invoker;
+
+    private InvocationPlan(String methodName, Invoker invoker) {
+        this.methodName = methodName;
+        this.invoker = invoker;
+    }
+
+    private InvocationPlan(String methodName, boolean batch, Handler handler) {
+        this(methodName, handler == null ? null : (connectionGlobal, args) ->
+                RepositoryOperations.execute(connectionGlobal, batch, connection -> handler.execute(args, connection))
+        );
+    }
+
+    Object invoke(Connection connectionGlobal, Object[] args) throws Exception {
+        if (invoker == null) {
+            throw new UnsupportedOperationException("Unsupported method: " + methodName);
+        }
+
+        return invoker.invoke(connectionGlobal, args);
+    }
+
+    private static InvocationPlan cursor(String methodName, Method method, Opener opener) {
+        Class<?> returnType = method.getReturnType();
+
+        if (RepositoryOperations.isStream(returnType)) {
+            return new InvocationPlan(methodName, (connectionGlobal, args) ->
+                    RepositoryOperations.stream(connectionGlobal, returnType, connection -> opener.open(args, connection))
+            );
+        }
+
+        int last = method.getParameterCount() - 1;
+        return new InvocationPlan(methodName, (connectionGlobal, args) ->
+                RepositoryOperations.forEach(connectionGlobal, (Consumer<?>) args[last], connection -> opener.open(Arrays.copyOf(args, last), connection))
+        );
+    }
+
+    private static boolean isCursor(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+
+        if (RepositoryOperations.isStream(method.getReturnType())) {
+            return true;
+        }
+
+        return method.getReturnType() == void.class && parameterTypes.length > 0 && parameterTypes[parameterTypes.length - 1] == Consumer.class;
+    }
+
+    private static boolean isJsonTarget(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        return parameterTypes.length > 0 && JsonRowWriter.isTarget(parameterTypes[parameterTypes.length - 1]);
+    }
+
+    private static Class<?> elementClass(Method method) {
+        Class<?> returnType = method.getReturnType();
+
+        if (List.class.isAssignableFrom(returnType) || RepositoryOperations.isStream(returnType)) {
+            return Function.getClassList(method);
+        } else if (returnType == void.class && isCursor(method)) {
+            return Function.getParameterClassList(method, method.getParameterCount() - 1);
+        }
+
+        return returnType;
+    }
+
+    private static Renderer renderer(ParsedQuery query, Class<?> entityClass, ProjectionMetadata projection) {
+        if (query.limit > 0) {
+            return (args, connection) -> SqlRenderer.toSql(query, entityClass, args, projection, Dialect.of(connection));
+        } else if (SqlRenderer.isStatic(query)) {
+            String sql = SqlRenderer.toSql(query, entityClass, null, projection);
+            return (args, connection) -> sql;
+        }
+
+        return (args, connection) -> SqlRenderer.toSql(query, entityClass, args, projection);
+    }
+
+    private static boolean isPaged(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        return parameterTypes.length > 0 && parameterTypes[parameterTypes.length - 1] == Pageable.class;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, ID> InvocationPlan of(Class<T> entityClass, Method method) {
+        if (entityClass == null) {
+            throw new IllegalArgumentException("The entity not found.");
+        }
+
+        EntityMetadata.of(entityClass);
+        String nameMethod = method.getName();
+
+        if (method.isAnnotationPresent(Query.class) && isJsonTarget(method)) {
+            CompiledTemplate template = CompiledTemplate.of(method);
+            int last = method.getParameterCount() - 1;
+            boolean wide = method.getReturnType() == long.class || method.getReturnType() == Long.class;
+
+            return new InvocationPlan(nameMethod, false, (args, connection) -> {
+                int rows = DQLCustom.writeJson(template, args, args[last], connection);
+                return wide ? (Object) (long) rows : (Object) rows;
+            });
+        } else if (method.isAnnotationPresent(Query.class) && isCursor(method)) {
+            Class<?> classList = RepositoryOperations.isStream(method.getReturnType())
+                    ? Function.getClassList(method)
+                    : Function.getParameterClassList(method, method.getParameterCount() - 1);
+            CompiledTemplate template = CompiledTemplate.of(method);
+
+            return cursor(nameMethod, method, (args, connection) ->
+                    DQLCustom.openCursor(entityClass, classList, template, args, connection)
+            );
+        } else if (method.isAnnotationPresent(Query.class)) {
+            Class<?> returnType = method.getReturnType();
+            Class<?> classList = Function.getClassList(method);
+            CompiledTemplate template = CompiledTemplate.of(method);
+
+            return new InvocationPlan(nameMethod, false, (args, connection) ->
+                    DQLCustom.query(entityClass, returnType, classList, template, args, connection)
+            );
+        } else if (method.isAnnotationPresent(Update.class) || method.isAnnotationPresent(Delete.class)) {
+            CompiledTemplate template = CompiledTemplate.of(method);
+            return new InvocationPlan(nameMethod, false, (args, connection) -> DMLCustom.execute(template, args, connection));
+        }
+
+        switch (nameMethod) {
+            case "insert":
+                return new InvocationPlan(nameMethod, false, (args, connection) -> DML.insertCascade(args[0], connection));
+            case "insertAll":
+                return new InvocationPlan(nameMethod, true, (args, connection) -> RepositoryOperations.insertAll((List<T>) args[0], connection));
+            case "update":
+                return new InvocationPlan(nameMethod, false, (args, connection) -> DML.updateCascade(args[0], connection));
+            case "save":
+                return new InvocationPlan(nameMethod, false, (args, connection) -> RepositoryOperations.save((T) args[0], connection));
+            case "saveAll":
+                return new InvocationPlan(nameMethod, true, (args, connection) -> RepositoryOperations.saveAll((List<T>) args[0], connection));
+            case "findById":
+                return new InvocationPlan(nameMethod, false, (args, connection) -> DQL.findById(entityClass, (ID) args[0], connection));
+            case "findAllById":
+                return new InvocationPlan(nameMethod, false, (args, connection) -> DQL.findAllById(entityClass, (Collection<ID>) args[0], connection));
+            case "findAll":
+                if (isPaged(method)) {
+                    return new InvocationPlan(nameMethod, false, (args, connection) -> DQL.findPage(entityClass, null, null, (Pageable) args[0], connection));
+                }
+
+                return new InvocationPlan(nameMethod, false, (args, connection) -> DQL.findAll(entityClass, connection));
+            case "deleteById":
+                return new InvocationPlan(nameMethod, false, (args, connection) -> DML.deleteById((ID) args[0], entityClass, connection));
+            case "deleteAllById":
+                return new InvocationPlan(nameMethod, true, (args, connection) -> DML.deleteAllById((Collection<ID>) args[0], entityClass, connection));
+            default:
+                break;
+        }
+
+        if (MethodNameParser.isDerived(nameMethod)) {
+            ParsedQuery query = MethodNameParser.parse(nameMethod);
+            Class<?> returnClass = method.getReturnType();
+
+            if (query.type != QueryType.SELECT) {
+                String sql = SqlRenderer.isStatic(query) ? SqlRenderer.toSql(query, entityClass, (Object[]) null) : null;
+                boolean wide = returnClass == long.class || returnClass == Long.class;
+
+                return new InvocationPlan(nameMethod, false, (args, connection) -> {
+                    String statement = sql != null ? sql : SqlRenderer.toSql(query, entityClass, args);
+
+                    switch (query.type) {
+                        case COUNT:
+                            return DQL.handleCount(statement, returnClass, args, connection);
+                        case EXISTS:
+                            return DQL.handleExists(statement, args, connection);
+                        default:
+                            int deleted = DML.delete(statement, args, connection);
+                            return wide ? (Object) (long) deleted : (Object) deleted;
+                    }
+                });
+            }
+
+            if (isPaged(method)) {
+                int last = method.getParameterCount() - 1;
+                boolean slice = Slice.class.isAssignableFrom(returnClass);
+
+                return new InvocationPlan(nameMethod, false, (args, connection) -> {
+                    Slice<T> page = DQL.findPage(entityClass, query, Arrays.copyOf(args, last), (Pageable) args[last], connection);
+                    return slice ? page : page.getContent();
+                });
+            }
+
+            Class<?> elementClass = elementClass(method);
+
+            if (ProjectionMetadata.isProjection(entityClass, elementClass)) {
+                ProjectionMetadata projection = ProjectionMetadata.of(entityClass, elementClass);
+                Renderer renderer = renderer(query, entityClass, projection);
+
+                if (isCursor(method)) {
+                    return cursor(nameMethod, method, (args, connection) ->
+                            DQL.openProjectionCursor(projection, renderer.render(args, connection), args, connection)
+                    );
+                }
+
+                return new InvocationPlan(nameMethod, false, (args, connection) ->
+                        DQL.handleProjection(projection, renderer.render(args, connection), returnClass, args, connection)
+                );
+            }
+
+            Renderer renderer = renderer(query, entityClass, null);
+
+            if (isCursor(method)) {
+                return cursor(nameMethod, method, (args, connection) ->
+                        DQL.openCursor(entityClass, SqlRenderer.orderByRoot(query, entityClass, renderer.render(args, connection)), args, connection)
+                );
+            }
+
+            return new InvocationPlan(nameMethod, false, (args, connection) ->
+                    DQL.handleQuery(entityClass, renderer.render(args, connection), returnClass, args, connection)
+            );
+        }
+
+        return new InvocationPlan(nameMethod, false, null);
+    }
+
+    private interface Invoker {
+
+        Object invoke(Connection connectionGlobal, Object[] args) throws Exception;
+
+    }
+
+    private interface Opener {
+
+        ResultCursor<?> open(Object[] args, Connection connection) throws Exception;
+
+    }
+
+    private interface Renderer {
+
+        String render(Object[] args, Connection connection) throws SQLException;
+
+    }
+
+    private interface Handler {
+
+        Object execute(Object[] args, Connection connection) throws Exception;
+
+    }
+
+}
@@ -0,0 +1,90 @@
+package io.github.gabrielmmoraes1999.db;
+
+import io.github.gabrielmmoraes1999.db.core.EntityMetadata;
+import io.github.gabrielmmoraes1999.db.core.JoinMetadata;
+import io.github.gabrielmmoraes1999.db.core.LazyList;
+import io.github.gabrielmmoraes1999.db.sql.BatchFetcher;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class LazyLoader {
+
+    private LazyLoader() {}
+
+    public static void initialize(Object entity, String... fields) {
+        initialize(Collections.singletonList(entity), fields);
+    }
+
+    public static void initialize(Collection<?> entities, String... fields) {
+        initialize(null, entities, fields);
+    }
+
+    public static void initialize(Connection connection, Collection<?> entities, String... fields) {
+        Map<Class<?>, List<Object>> byClass = new LinkedHashMap<>();
+
+        for (Object entity : entities) {
+            if (entity != null) {
+                byClass.computeIfAbsent(entity.getClass(), key -> new ArrayList<>()).add(entity);
+            }
+        }
+
+        for (Map.Entry<Class<?>, List<Object>> entry : byClass.entrySet()) {
+            EntityMetadata metadata = EntityMetadata.of(entry.getKey());
+            List<JoinMetadata> joins = new ArrayList<>();
+
+            if (fields == null || fields.length == 0) {
+                joins.addAll(metadata.getLazyJoins());
+            } else {
+                for (String field : fields) {
+                    JoinMetadata join = metadata.getAssociation(field);
+
+                    if (join == null || !join.isLazy()) {
+                        throw new IllegalArgumentException("Associação LAZY não encontrada: " + field);
+                    }
+
+                    joins.add(join);
+                }
+            }
+
+            for (JoinMetadata join : joins) {
+                Map<Connection, List<Object>> pending = new IdentityHashMap<>();
+
+                for (Object entity : entry.getValue()) {
+                    if (!join.isCollection() || !join.isLoaded(entity)) {
+                        pending.computeIfAbsent(source(connection, join, entity), key -> new ArrayList<>()).add(entity);
+                    }
+                }
+
+                for (Map.Entry<Connection, List<Object>> group : pending.entrySet()) {
+                    try {
+                        RepositoryOperations.execute(group.getKey(), false, current -> {
+                            BatchFetcher.fetch(metadata, join, group.getValue(), current);
+                            return null;
+                        });
+                    } catch (RuntimeException ex) {
+                        throw ex;
+                    } catch (Exception ex) {
+                        throw new RuntimeException(ex);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Connection source(Connection connection, JoinMetadata join, Object entity) {
+        if (connection != null) {
+            return connection;
+        }
+
+        Object value = join.isCollection() ? join.get(entity) : null;
+        return value instanceof LazyList && ((LazyList<?>) value).getConnection() != null ? ((LazyList<?>) value).getConnection() : DataBase.conn;
+    }
+
+}
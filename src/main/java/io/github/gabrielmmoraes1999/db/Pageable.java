@@ -0,0 +1,78 @@
+package io.github.gabrielmmoraes1999.db;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public final class Pageable {
+
+    private final int page;
+    private final int size;
+    private final boolean keyset;
+    private final List<Object> after;
+
+    private Pageable(int page, int size, boolean keyset, List<Object> after) {
+        if (page < 0) {
+            throw new IllegalArgumentException("The page must not be negative.");
+        }
+
+        if (size < 1) {
+            throw new IllegalArgumentException("The page size must be greater than zero.");
+        }
+
+        this.page = page;
+        this.size = size;
+        this.keyset = keyset;
+        this.after = after;
+    }
+
+    public static Pageable of(int page, int size) {
+        return new Pageable(page, size, false, null);
+    }
+
+    public static Pageable keyset(int size) {
+        return new Pageable(0, size, true, null);
+    }
+
+    public static Pageable after(int size, Object... key) {
+        if (key == null || key.length == 0) {
+            return keyset(size);
+        }
+
+        return new Pageable(0, size, true, Collections.unmodifiableList(Arrays.asList(key.clone())));
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getOffset() {
+        return (long) page * size;
+    }
+
+    public boolean isKeyset() {
+        return keyset;
+    }
+
+    public List<Object> getAfter() {
+        return after;
+    }
+
+    public Pageable next() {
+        if (keyset) {
+            throw new IllegalStateException("Keyset pages are continued with Slice.nextPageable().");
+        }
+
+        return new Pageable(page + 1, size, false, null);
+    }
+
+    @Override
+    public String toString() {
+        return keyset ? "Pageable{size=" + size + ", after=" + after + "}" : "Pageable{page=" + page + ", size=" + size + "}";
+    }
+
+}
@@ -0,0 +1,219 @@
+package io.github.gabrielmmoraes1999.db;
+
+import io.github.gabrielmmoraes1999.db.core.EntityMetadata;
+import io.github.gabrielmmoraes1999.db.core.EntitySnapshots;
+import io.github.gabrielmmoraes1999.db.core.ResultCursor;
+import io.github.gabrielmmoraes1999.db.sql.DML;
+import io.github.gabrielmmoraes1999.db.sql.DQL;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+final class RepositoryOperations {
+
+    private RepositoryOperations() {}
+
+    static <R> R execute(Connection connectionGlobal, boolean batch, SqlCall<R> call) throws Exception {
+        Connection connection;
+
+        if (ConnectionPoolManager.isPresent()) {
+            connection = ConnectionPoolManager.getConnection();
+        } else {
+            connection = connectionGlobal;
+        }
+
+        boolean rollbackAutoCommit = false;
+
+        try {
+            if (batch && connection.getAutoCommit()) {
+                rollbackAutoCommit = true;
+                connection.setAutoCommit(false);
+            }
+
+            R returnObject = call.call(connection);
+
+            if (rollbackAutoCommit)
+                connection.setAutoCommit(true);
+
+            DataBase.commit(connection);
+            ConnectionPoolManager.closeConnection(connection);
+            return returnObject;
+        } catch (Exception ex) {
+            try {
+                DataBase.autoRollback(connection);
+            } catch (SQLException ignore) {
+
+            }
+
+            if (rollbackAutoCommit) {
+                connection.setAutoCommit(true);
+            }
+
+            ConnectionPoolManager.closeConnection(connection);
+            throw ex;
+        }
+    }
+
+    static Object stream(Connection connectionGlobal, Class<?> returnType, CursorCall call) throws Exception {
+        Connection connection;
+
+        if (ConnectionPoolManager.isPresent()) {
+            connection = ConnectionPoolManager.getConnection();
+        } else {
+            connection = connectionGlobal;
+        }
+
+        boolean rollbackAutoCommit = false;
+
+        try {
+            if (connection.getAutoCommit()) {
+                rollbackAutoCommit = true;
+                connection.setAutoCommit(false);
+            }
+
+            boolean restoreAutoCommit = rollbackAutoCommit;
+            ResultCursor<?> cursor = call.open(connection).onClose(() -> {
+                try {
+                    DataBase.commit(connection);
+                } finally {
+                    if (restoreAutoCommit) {
+                        connection.setAutoCommit(true);
+                    }
+
+                    ConnectionPoolManager.closeConnection(connection);
+                }
+            });
+
+            return returnType == Iterator.class ? cursor : cursor.stream();
+        } catch (Exception ex) {
+            try {
+                DataBase.autoRollback(connection);
+            } catch (SQLException ignore) {
+
+            }
+
+            if (rollbackAutoCommit) {
+                connection.setAutoCommit(true);
+            }
+
+            ConnectionPoolManager.closeConnection(connection);
+            throw ex;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static Object forEach(Connection connectionGlobal, Consumer<?> consumer, CursorCall call) throws Exception {
+        return execute(connectionGlobal, true, connection -> {
+            try (ResultCursor<?> cursor = call.open(connection)) {
+                cursor.forEachRemaining((Consumer<Object>) consumer);
+            }
+
+            return null;
+        });
+    }
+
+    static boolean isStream(Class<?> returnType) {
+        return returnType == Stream.class || returnType == Iterator.class;
+    }
+
+    static <T> Integer insertAll(List<T> entityList, Connection connection) throws SQLException {
+        return DML.insertAll(entityList, connection);
+    }
+
+    static <T> T save(T entity, Connection connection) throws Exception {
+        Dialect dialect = Dialect.of(connection);
+
+        if (EntityMetadata.of(entity.getClass()).isGeneratedValueMissing(entity)) {
+            DML.insertCascade(entity, connection);
+        } else if (dialect.supportsUpsert() && (!DBConfig.isDirtyTracking() || EntitySnapshots.get(entity) == null)) {
+            DML.upsertCascade(entity, dialect, connection);
+        } else if (DML.isUnchanged(entity) && DQL.existing(Collections.singletonList(entity), connection).isEmpty()) {
+            DML.insertCascade(entity, connection);
+        } else if (DML.updateCascade(entity, connection) == 0) {
+            DML.insertCascade(entity, connection);
+        }
+
+        return DBConfig.isReloadOnSave() ? DQL.findById(entity, connection) : entity;
+    }
+
+    static <T> List<T> saveAll(List<T> entityList, Connection connection) throws Exception {
+        List<T> existing = new ArrayList<>();
+        List<T> updated = new ArrayList<>();
+        List<T> inserted = new ArrayList<>();
+
+        for (T entity : entityList) {
+            if (EntityMetadata.of(entity.getClass()).isGeneratedValueMissing(entity)) {
+                inserted.add(entity);
+            } else {
+                existing.add(entity);
+            }
+        }
+
+        int[] counts = DML.updateAll(existing, connection);
+        Map<Class<?>, List<T>> unknown = new LinkedHashMap<>();
+
+        for (int index = 0; index < counts.length; index++) {
+            T entity = existing.get(index);
+            int count = counts[index];
+
+            if (count == Statement.SUCCESS_NO_INFO) {
+                unknown.computeIfAbsent(entity.getClass(), k -> new ArrayList<>()).add(entity);
+            } else if (count == 0) {
+                inserted.add(entity);
+            } else {
+                updated.add(entity);
+            }
+        }
+
+        for (List<T> entities : unknown.values()) {
+            Set<T> found = Collections.newSetFromMap(new IdentityHashMap<>());
+            found.addAll(DQL.existing(entities, connection));
+
+            for (T entity : entities) {
+                if (!found.contains(entity)) {
+                    inserted.add(entity);
+                    continue;
+                }
+
+                if (DBConfig.isDirtyTracking()) {
+                    EntitySnapshots.take(EntityMetadata.of(entity.getClass()), entity);
+                }
+
+                updated.add(entity);
+            }
+        }
+
+        DML.updateChildrenAll(updated, connection);
+        DML.insertAll(inserted, connection);
+
+        if (!DBConfig.isReloadOnSave()) {
+            return new ArrayList<>(entityList);
+        }
+
+        return DQL.reload(entityList, connection);
+    }
+
+    interface SqlCall<R> {
+
+        R call(Connection connection) throws Exception;
+
+    }
+
+    interface CursorCall {
+
+        ResultCursor<?> open(Connection connection) throws Exception;
+
+    }
+
+}
@@ -0,0 +1,48 @@
+package io.github.gabrielmmoraes1999.db;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+public class Slice<T> implements Iterable<T> {
+
+    private final List<T> content;
+    private final Pageable pageable;
+    private final Pageable nextPageable;
+
+    public Slice(List<T> content, Pageable pageable, Pageable nextPageable) {
+        this.content = Collections.unmodifiableList(content);
+        this.pageable = pageable;
+        this.nextPageable = nextPageable;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public Pageable getPageable() {
+        return pageable;
+    }
+
+    public boolean hasNext() {
+        return nextPageable != null;
+    }
+
+    public Pageable nextPageable() {
+        return nextPageable;
+    }
+
+    public int getNumberOfElements() {
+        return content.size();
+    }
+
+    public boolean isEmpty() {
+        return content.isEmpty();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return content.iterator();
+    }
+
+}
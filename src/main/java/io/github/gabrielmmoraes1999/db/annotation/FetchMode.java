@@ -0,0 +1,6 @@
+package io.github.gabrielmmoraes1999.db.annotation;
+
+public enum FetchMode {
+    JOIN,
+    BATCH
+}
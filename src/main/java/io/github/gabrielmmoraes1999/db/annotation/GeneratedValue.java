@@ -0,0 +1,8 @@
+package io.github.gabrielmmoraes1999.db.annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+@Retention(RetentionPolicy.RUNTIME)
+public @interface GeneratedValue {
+}
@@ -8,5 +8,7 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.FIELD)
 public @interface OneToMany {
+    FetchType fetch() default FetchType.EAGER;
 
+    FetchMode fetchMode() default FetchMode.JOIN;
 }
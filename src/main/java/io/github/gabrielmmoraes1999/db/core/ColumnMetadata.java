@@ -0,0 +1,94 @@
+package io.github.gabrielmmoraes1999.db.core;
+
+import io.github.gabrielmmoraes1999.db.annotation.Column;
+import io.github.gabrielmmoraes1999.db.annotation.GeneratedValue;
+import io.github.gabrielmmoraes1999.db.annotation.PrimaryKey;
+
+import java.lang.reflect.Field;
+
+public class ColumnMetadata {
+
+    private final Field field;
+    private final FieldAccessor accessor;
+    private final String name;
+    private final Class<?> type;
+    private final boolean primaryKey;
+    private final boolean generated;
+    private final Object[] enumConstants;
+
+    private volatile ColumnReader reader;
+
+    ColumnMetadata(Field field) {
+        field.setAccessible(true);
+
+        this.field = field;
+        this.accessor = FieldAccessors.of(field);
+        this.name = field.getAnnotation(Column.class).name();
+        this.type = field.getType();
+        this.primaryKey = field.isAnnotationPresent(PrimaryKey.class);
+        this.generated = field.isAnnotationPresent(GeneratedValue.class);
+        this.enumConstants = type.isEnum() ? type.getEnumConstants() : null;
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public boolean isPrimaryKey() {
+        return primaryKey;
+    }
+
+    public boolean isGenerated() {
+        return generated;
+    }
+
+    public boolean isEnum() {
+        return enumConstants != null;
+    }
+
+    public Object getEnumConstant(int ordinal) {
+        return enumConstants[ordinal];
+    }
+
+    public FieldAccessor getAccessor() {
+        return accessor;
+    }
+
+    public ColumnReader getReader() {
+        ColumnReader result = reader;
+
+        if (result == null) {
+            result = ColumnReaders.of(this);
+            reader = result;
+        }
+
+        return result;
+    }
+
+    public Object get(Object entity) {
+        return accessor.get(entity);
+    }
+
+    public boolean isMissing(Object entity) {
+        Object value = get(entity);
+
+        if (value == null) {
+            return true;
+        }
+
+        return type.isPrimitive() && value instanceof Number && ((Number) value).longValue() == 0;
+    }
+
+    public void set(Object entity, Object value) {
+        accessor.set(entity, value);
+    }
+
+}
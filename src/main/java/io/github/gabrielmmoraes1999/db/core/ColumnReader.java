@@ -0,0 +1,10 @@
+package io.github.gabrielmmoraes1999.db.core;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+public interface ColumnReader {
+
+    boolean read(ResultSet rs, int index, Object entity) throws SQLException;
+
+}
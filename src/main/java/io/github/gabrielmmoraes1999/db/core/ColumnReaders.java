@@ -0,0 +1,124 @@
+package io.github.gabrielmmoraes1999.db.core;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+public class ColumnReaders {
+
+    public static ColumnReader of(ColumnMetadata column) {
+        FieldAccessor accessor = column.getAccessor();
+        Class<?> type = column.getType();
+
+        if (column.isEnum()) {
+            return (rs, index, entity) -> {
+                int ordinal = rs.getInt(index);
+                accessor.set(entity, column.getEnumConstant(ordinal));
+                return !rs.wasNull();
+            };
+        } else if (type == int.class) {
+            return (rs, index, entity) -> {
+                accessor.setInt(entity, rs.getInt(index));
+                return !rs.wasNull();
+            };
+        } else if (type == long.class) {
+            return (rs, index, entity) -> {
+                accessor.setLong(entity, rs.getLong(index));
+                return !rs.wasNull();
+            };
+        } else if (type == double.class) {
+            return (rs, index, entity) -> {
+                accessor.setDouble(entity, rs.getDouble(index));
+                return !rs.wasNull();
+            };
+        } else if (type == boolean.class) {
+            return (rs, index, entity) -> {
+                accessor.setBoolean(entity, rs.getBoolean(index));
+                return !rs.wasNull();
+            };
+        } else if (type == Integer.class) {
+            return (rs, index, entity) -> {
+                int value = rs.getInt(index);
+                boolean nonNull = !rs.wasNull();
+                accessor.set(entity, nonNull ? value : null);
+                return nonNull;
+            };
+        } else if (type == Long.class) {
+            return (rs, index, entity) -> {
+                long value = rs.getLong(index);
+                boolean nonNull = !rs.wasNull();
+                accessor.set(entity, nonNull ? value : null);
+                return nonNull;
+            };
+        } else if (type == Double.class) {
+            return (rs, index, entity) -> {
+                double value = rs.getDouble(index);
+                boolean nonNull = !rs.wasNull();
+                accessor.set(entity, nonNull ? value : null);
+                return nonNull;
+            };
+        } else if (type == Boolean.class) {
+            return (rs, index, entity) -> {
+                boolean value = rs.getBoolean(index);
+                boolean nonNull = !rs.wasNull();
+                accessor.set(entity, nonNull ? value : null);
+                return nonNull;
+            };
+        } else if (type == String.class) {
+            return (rs, index, entity) -> set(accessor, entity, rs.getString(index));
+        } else if (type == BigDecimal.class) {
+            return (rs, index, entity) -> set(accessor, entity, rs.getBigDecimal(index));
+        } else if (type == java.sql.Date.class) {
+            return (rs, index, entity) -> set(accessor, entity, rs.getDate(index));
+        } else if (type == Timestamp.class) {
+            return (rs, index, entity) -> set(accessor, entity, rs.getTimestamp(index));
+        } else if (type == Time.class) {
+            return (rs, index, entity) -> set(accessor, entity, rs.getTime(index));
+        } else if (type == byte[].class) {
+            return (rs, index, entity) -> set(accessor, entity, rs.getBytes(index));
+        } else {
+            return (rs, index, entity) -> set(accessor, entity, rs.getObject(index));
+        }
+    }
+
+    public static Object read(Class<?> type, ResultSet rs, int index) throws SQLException {
+        Object value;
+
+        if (type.isEnum()) {
+            int ordinal = rs.getInt(index);
+            value = type.getEnumConstants()[ordinal];
+        } else if (type == int.class || type == Integer.class) {
+            value = rs.getInt(index);
+        } else if (type == long.class || type == Long.class) {
+            value = rs.getLong(index);
+        } else if (type == double.class || type == Double.class) {
+            value = rs.getDouble(index);
+        } else if (type == boolean.class || type == Boolean.class) {
+            value = rs.getBoolean(index);
+        } else if (type == String.class) {
+            value = rs.getString(index);
+        } else if (type == BigDecimal.class) {
+            value = rs.getBigDecimal(index);
+        } else if (type == java.sql.Date.class) {
+            value = rs.getDate(index);
+        } else if (type == Timestamp.class) {
+            value = rs.getTimestamp(index);
+        } else if (type == Time.class) {
+            value = rs.getTime(index);
+        } else if (type == byte[].class) {
+            value = rs.getBytes(index);
+        } else {
+            value = rs.getObject(index);
+        }
+
+        return rs.wasNull() ? null : value;
+    }
+
+    private static boolean set(FieldAccessor accessor, Object entity, Object value) {
+        accessor.set(entity, value);
+        return value != null;
+    }
+
+}
@@ -1,170 +1,102 @@
 package io.github.gabrielmmoraes1999.db.core;
 
-import io.github.gabrielmmoraes1999.db.annotation.Column;
-import io.github.gabrielmmoraes1999.db.annotation.OneToMany;
-import io.github.gabrielmmoraes1999.db.annotation.OneToOne;
-import io.github.gabrielmmoraes1999.db.annotation.PrimaryKey;
-import io.github.gabrielmmoraes1999.db.util.Function;
+import io.github.gabrielmmoraes1999.db.DBConfig;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
 import java.sql.*;
 import java.util.*;
 
 public class EntityBuilder {
 
     public static <T> List<T> build(Class<T> entityClass, PreparedStatement preparedStatement) throws SQLException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
-        Map<String, T> rootMap = new LinkedHashMap<>();
-        Map<Field, String> joinAliases = new LinkedHashMap<>();
-
-        int aliasCounter = 2;
-        for (Field field : entityClass.getDeclaredFields()) {
-            Class<?> targetEntity;
-
-            if (field.isAnnotationPresent(OneToOne.class)) {
-                targetEntity = field.getType();
-            } else if (field.isAnnotationPresent(OneToMany.class)) {
-                targetEntity = Function.getGenericType(field);
-            } else {
-                continue;
-            }
-
-            if (targetEntity == null) {
-                continue;
-            }
+        Map<Object, T> rootMap = new LinkedHashMap<>();
+        build(entityClass, preparedStatement, rootMap);
+        return new ArrayList<>(rootMap.values());
+    }
 
-            joinAliases.put(field, "p" + aliasCounter++);
-        }
+    public static <T> void build(Class<T> entityClass, PreparedStatement preparedStatement, Map<Object, T> rootMap) throws SQLException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
+        EntityMetadata metadata = EntityMetadata.of(entityClass);
+        boolean tracking = DBConfig.isDirtyTracking();
+        Map<Object, Set<Object>[]> childKeys = new HashMap<>();
 
         try (ResultSet rs = preparedStatement.executeQuery()) {
+            EntityMapper mapper = EntityMapper.of(metadata, rs.getMetaData());
+            RowMapper rootMapper = mapper.getRoot();
+            boolean joins = mapper.getJoins().length > 0;
+
             while (rs.next()) {
-                String rootKey = extractPrimaryKey(entityClass, rs, "p1");
+                Object rootKey = rootMapper.extractPrimaryKey(rs);
 
                 T root = rootMap.get(rootKey);
                 if (root == null) {
-                    root = entityClass.getDeclaredConstructor().newInstance();
-                    populateEntity(root, entityClass, rs, "p1");
+                    root = metadata.newInstance();
+                    rootMapper.map(root, rs);
                     rootMap.put(rootKey, root);
-                }
-
-                for (Field field : entityClass.getDeclaredFields()) {
-                    Class<?> targetEntity;
-
-                    if (field.isAnnotationPresent(OneToOne.class)) {
-                        targetEntity = field.getType();
-                    } else if (field.isAnnotationPresent(OneToMany.class)) {
-                        targetEntity = Function.getGenericType(field);
-                    } else {
-                        continue;
-                    }
 
-                    String alias = joinAliases.get(field);
-                    if (alias == null) {
-                        continue;
+                    if (tracking) {
+                        EntitySnapshots.take(metadata, root);
                     }
+                }
 
-                    Object child = targetEntity.getDeclaredConstructor().newInstance();
-                    boolean hasValue = populateEntity(child, targetEntity, rs, alias);
-
-                    if (!hasValue) {
-                        continue;
-                    }
-
-                    field.setAccessible(true);
-                    if (Collection.class.isAssignableFrom(field.getType())) {
-                        List<Object> list = (List<Object>) field.get(root);
-
-                        if (list == null) {
-                            list = new ArrayList<>();
-                            field.set(root, list);
-                        }
-
-                        if (!containsEntity(list, child)) {
-                            list.add(child);
-                        }
-                    } else {
-                        field.set(root, child);
-                    }
+                if (joins) {
+                    mapJoins(mapper, root, rs, tracking, childKeys.computeIfAbsent(rootKey, key -> newChildKeys(mapper)));
                 }
             }
         }
-
-        return new ArrayList<>(rootMap.values());
     }
 
-    private static boolean populateEntity(Object entity, Class<?> clazz, ResultSet rs, String alias) throws SQLException, IllegalAccessException {
-        boolean hasNonNull = false;
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Set<Object>[] newChildKeys(EntityMapper mapper) {
+        return new Set[mapper.getJoins().length];
+    }
 
-        for (Field field : clazz.getDeclaredFields()) {
-            if (!field.isAnnotationPresent(Column.class)) {
-                continue;
-            }
+    static void mapJoins(EntityMapper mapper, Object root, ResultSet rs, boolean tracking, Set<Object>[] childKeys) throws SQLException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
+        JoinMetadata[] joins = mapper.getJoins();
 
-            Column column = field.getAnnotation(Column.class);
-            String columnName = alias.equals("p1") ? column.name() : alias.toUpperCase() + "_" + column.name();
+        for (int i = 0; i < joins.length; i++) {
+            JoinMetadata join = joins[i];
+            RowMapper joinMapper = mapper.getJoinMapper(i);
+            EntityMetadata target = joinMapper.getMetadata();
+            Object childKey = null;
 
-            Object value = rs.getObject(columnName);
-            if (value != null) {
-                hasNonNull = true;
-            }
+            if (join.isCollection()) {
+                childKey = joinMapper.extractPrimaryKey(rs);
 
-            field.setAccessible(true);
-            if (field.getType().isEnum()) {
-                assert column != null;
-                field.set(entity, field.getType().getEnumConstants()[rs.getInt(columnName)]);
-            } else {
-                field.set(entity, value);
+                if (childKeys[i] != null && childKeys[i].contains(childKey)) {
+                    continue;
+                }
             }
-        }
 
-        return hasNonNull;
-    }
-
-    private static String extractPrimaryKey(Class<?> clazz, ResultSet rs, String alias) throws SQLException {
-        StringBuilder key = new StringBuilder();
+            Object child = target.newInstance();
+            boolean hasValue = joinMapper.map(child, rs);
 
-        for (Field field : clazz.getDeclaredFields()) {
-            if (!field.isAnnotationPresent(PrimaryKey.class)) {
+            if (!hasValue) {
                 continue;
             }
 
-            Column column = field.getAnnotation(Column.class);
-            String col = alias.equals("p1") ? column.name() : alias.toUpperCase() + "_" + column.name();
-            key.append(rs.getObject(col)).append("|");
-        }
+            if (join.isCollection()) {
+                @SuppressWarnings("unchecked")
+                List<Object> list = (List<Object>) join.get(root);
 
-        return key.toString();
-    }
-
-    private static boolean containsEntity(List<?> list, Object candidate) throws IllegalAccessException {
-        for (Object existing : list) {
-            if (samePrimaryKey(existing, candidate)) {
-                return true;
-            }
-        }
-        return false;
-    }
+                if (list == null) {
+                    list = new ArrayList<>();
+                    join.set(root, list);
+                }
 
-    private static boolean samePrimaryKey(Object a, Object b) throws IllegalAccessException {
-        Class<?> clazz = a.getClass();
+                if (childKeys[i] == null) {
+                    childKeys[i] = new HashSet<>();
+                }
 
-        for (Field field : clazz.getDeclaredFields()) {
-            if (!field.isAnnotationPresent(PrimaryKey.class)) {
-                continue;
+                childKeys[i].add(childKey);
+                list.add(child);
+            } else {
+                join.set(root, child);
             }
 
-            field.setAccessible(true);
-
-            Object v1 = field.get(a);
-            Object v2 = field.get(b);
-
-            if (!Objects.equals(v1, v2)) {
-                return false;
+            if (tracking) {
+                EntitySnapshots.take(target, child);
             }
         }
-        return true;
     }
 
 }
@@ -0,0 +1,133 @@
+package io.github.gabrielmmoraes1999.db.core;
+
+import io.github.gabrielmmoraes1999.db.DBConfig;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+public class EntityCursor<T> extends ResultCursor<T> {
+
+    private final EntityMetadata metadata;
+    private final EntityMapper mapper;
+    private final boolean tracking;
+    private final Deque<T> buffer = new ArrayDeque<>();
+    private ChunkListener<T> listener;
+    private int chunkSize = 1;
+
+    private EntityCursor(PreparedStatement preparedStatement, ResultSet resultSet, EntityMetadata metadata) throws SQLException {
+        super(preparedStatement, resultSet, null);
+        this.metadata = metadata;
+        this.mapper = EntityMapper.of(metadata, resultSet.getMetaData());
+        this.tracking = DBConfig.isDirtyTracking();
+    }
+
+    public static <T> EntityCursor<T> open(Class<T> entityClass, PreparedStatement preparedStatement) throws SQLException {
+        ResultSet resultSet = null;
+
+        try {
+            resultSet = preparedStatement.executeQuery();
+            return new EntityCursor<>(preparedStatement, resultSet, EntityMetadata.of(entityClass));
+        } catch (SQLException | RuntimeException ex) {
+            if (resultSet != null) {
+                resultSet.close();
+            }
+
+            preparedStatement.close();
+            throw ex;
+        }
+    }
+
+    public EntityCursor<T> onChunk(int chunkSize, ChunkListener<T> listener) {
+        this.chunkSize = Math.max(1, chunkSize);
+        this.listener = listener;
+        return this;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (buffer.isEmpty()) {
+            fill();
+        }
+
+        return !buffer.isEmpty() || super.hasNext();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return buffer.poll();
+    }
+
+    @Override
+    protected T read() throws Exception {
+        return readRoot();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        buffer.clear();
+        super.close();
+    }
+
+    private void fill() {
+        try {
+            while (buffer.size() < chunkSize && position()) {
+                consume();
+                buffer.add(readRoot());
+            }
+
+            if (listener != null && !buffer.isEmpty()) {
+                listener.read(new ArrayList<>(buffer));
+            }
+        } catch (Exception ex) {
+            throw failure(ex);
+        }
+    }
+
+    private T readRoot() throws Exception {
+        RowMapper rootMapper = mapper.getRoot();
+        Object rootKey = rootMapper.extractPrimaryKey(resultSet);
+        T root = metadata.newInstance();
+        rootMapper.map(root, resultSet);
+
+        if (tracking) {
+            EntitySnapshots.take(metadata, root);
+        }
+
+        if (mapper.getJoins().length == 0) {
+            return root;
+        }
+
+        Set<Object>[] childKeys = EntityBuilder.newChildKeys(mapper);
+        EntityBuilder.mapJoins(mapper, root, resultSet, tracking, childKeys);
+
+        while (advance()) {
+            if (!Objects.equals(rootKey, rootMapper.extractPrimaryKey(resultSet))) {
+                pushBack();
+                break;
+            }
+
+            EntityBuilder.mapJoins(mapper, root, resultSet, tracking, childKeys);
+        }
+
+        return root;
+    }
+
+    public interface ChunkListener<T> {
+
+        void read(List<T> entities) throws Exception;
+
+    }
+
+}
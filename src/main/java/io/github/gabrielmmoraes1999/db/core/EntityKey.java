@@ -0,0 +1,68 @@
+package io.github.gabrielmmoraes1999.db.core;
+
+import java.util.Arrays;
+import java.util.List;
+
+public final class EntityKey {
+
+    private final Object[] values;
+    private final int hash;
+
+    public EntityKey(Object[] values) {
+        this.values = values;
+        this.hash = Arrays.hashCode(values);
+    }
+
+    public static EntityKey of(List<ColumnMetadata> columns, Object entity) {
+        Object[] values = new Object[columns.size()];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = normalize(columns.get(i).get(entity));
+        }
+
+        return new EntityKey(values);
+    }
+
+    public boolean hasNull() {
+        for (Object value : values) {
+            if (value == null) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof EntityKey)) {
+            return false;
+        }
+
+        EntityKey key = (EntityKey) other;
+        return hash == key.hash && Arrays.equals(values, key.values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+
+    private static Object normalize(Object value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+
+        return value;
+    }
+
+}
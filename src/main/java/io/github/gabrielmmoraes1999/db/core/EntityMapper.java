@@ -0,0 +1,63 @@
+package io.github.gabrielmmoraes1999.db.core;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class EntityMapper {
+
+    private final RowMapper root;
+    private final JoinMetadata[] joins;
+    private final RowMapper[] joinMappers;
+
+    private EntityMapper(EntityMetadata metadata, Map<String, Integer> labelIndexes) throws SQLException {
+        List<JoinMetadata> joinList = metadata.getJoins();
+
+        this.root = new RowMapper(metadata, metadata.getLabels(), labelIndexes);
+        this.joins = joinList.toArray(new JoinMetadata[0]);
+        this.joinMappers = new RowMapper[joins.length];
+
+        for (int i = 0; i < joins.length; i++) {
+            joinMappers[i] = new RowMapper(joins[i].getTarget(), joins[i].getLabels(), labelIndexes);
+        }
+    }
+
+    public static EntityMapper of(EntityMetadata metadata, ResultSetMetaData resultSetMetaData) throws SQLException {
+        int columnCount = resultSetMetaData.getColumnCount();
+        StringBuilder shape = new StringBuilder();
+
+        for (int i = 1; i <= columnCount; i++) {
+            shape.append(resultSetMetaData.getColumnLabel(i)).append(',');
+        }
+
+        EntityMapper mapper = metadata.getMapper(shape.toString());
+
+        if (mapper == null) {
+            Map<String, Integer> labelIndexes = new HashMap<>();
+
+            for (int i = columnCount; i >= 1; i--) {
+                labelIndexes.put(resultSetMetaData.getColumnLabel(i).toUpperCase(), i);
+            }
+
+            mapper = new EntityMapper(metadata, labelIndexes);
+            metadata.putMapper(shape.toString(), mapper);
+        }
+
+        return mapper;
+    }
+
+    public RowMapper getRoot() {
+        return root;
+    }
+
+    public JoinMetadata[] getJoins() {
+        return joins;
+    }
+
+    public RowMapper getJoinMapper(int index) {
+        return joinMappers[index];
+    }
+
+}
@@ -0,0 +1,242 @@
+package io.github.gabrielmmoraes1999.db.core;
+
+import io.github.gabrielmmoraes1999.db.annotation.Column;
+import io.github.gabrielmmoraes1999.db.annotation.OneToMany;
+import io.github.gabrielmmoraes1999.db.annotation.OneToOne;
+import io.github.gabrielmmoraes1999.db.annotation.Table;
+import io.github.gabrielmmoraes1999.db.util.Function;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+public class EntityMetadata {
+
+    public static final String ROOT_ALIAS = "p1";
+
+    private static final Map<Class<?>, EntityMetadata> CACHE = new ConcurrentHashMap<>();
+
+    private final Class<?> entityClass;
+    private final String tableName;
+    private final List<ColumnMetadata> columns;
+    private final List<ColumnMetadata> primaryKeys;
+    private final List<ColumnMetadata> nonPrimaryKeys;
+    private final List<ColumnMetadata> generatedColumns;
+    private final Map<String, ColumnMetadata> columnsByName;
+    private final String[] labels;
+    private final List<JoinMetadata> associations;
+    private final List<JoinMetadata> joins;
+    private final List<JoinMetadata> batchJoins;
+    private final List<JoinMetadata> lazyJoins;
+    private final Map<Object, String> sqlCache = new ConcurrentHashMap<>();
+    private final Map<String, EntityMapper> mapperCache = new ConcurrentHashMap<>();
+
+    private volatile Constructor<?> constructor;
+
+    private EntityMetadata(Class<?> entityClass) {
+        List<ColumnMetadata> columns = new ArrayList<>();
+        List<ColumnMetadata> primaryKeys = new ArrayList<>();
+        List<ColumnMetadata> nonPrimaryKeys = new ArrayList<>();
+        List<ColumnMetadata> generatedColumns = new ArrayList<>();
+        Map<String, ColumnMetadata> columnsByName = new HashMap<>();
+        List<JoinMetadata> associations = new ArrayList<>();
+        List<JoinMetadata> joins = new ArrayList<>();
+        List<JoinMetadata> batchJoins = new ArrayList<>();
+        List<JoinMetadata> lazyJoins = new ArrayList<>();
+
+        int aliasCounter = 2;
+        for (Field field : entityClass.getDeclaredFields()) {
+            if (field.isAnnotationPresent(Column.class)) {
+                ColumnMetadata column = new ColumnMetadata(field);
+                columns.add(column);
+                columnsByName.putIfAbsent(column.getName(), column);
+
+                if (column.isPrimaryKey()) {
+                    primaryKeys.add(column);
+                } else {
+                    nonPrimaryKeys.add(column);
+                }
+
+                if (column.isGenerated()) {
+                    generatedColumns.add(column);
+                }
+
+                continue;
+            }
+
+            Class<?> targetEntity;
+
+            if (field.isAnnotationPresent(OneToOne.class)) {
+                targetEntity = field.getType();
+            } else if (field.isAnnotationPresent(OneToMany.class)) {
+                targetEntity = Function.getGenericType(field);
+            } else {
+                continue;
+            }
+
+            if (targetEntity == null) {
+                continue;
+            }
+
+            String alias = targetEntity.isAnnotationPresent(Table.class) ? "p" + aliasCounter++ : null;
+            JoinMetadata join = new JoinMetadata(field, targetEntity, alias);
+            associations.add(join);
+
+            if (join.isLazy()) {
+                lazyJoins.add(join);
+            } else if (join.isBatchFetch()) {
+                batchJoins.add(join);
+            } else if (join.isJoinable()) {
+                joins.add(join);
+            }
+        }
+
+        this.entityClass = entityClass;
+        this.tableName = entityClass.getAnnotation(Table.class).name();
+        this.columns = Collections.unmodifiableList(columns);
+        this.primaryKeys = Collections.unmodifiableList(primaryKeys);
+        this.nonPrimaryKeys = Collections.unmodifiableList(nonPrimaryKeys);
+        this.generatedColumns = Collections.unmodifiableList(generatedColumns);
+        this.columnsByName = columnsByName;
+        this.associations = Collections.unmodifiableList(associations);
+        this.joins = Collections.unmodifiableList(joins);
+        this.batchJoins = Collections.unmodifiableList(batchJoins);
+        this.lazyJoins = Collections.unmodifiableList(lazyJoins);
+        this.labels = new String[columns.size()];
+
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = columns.get(i).getName();
+        }
+    }
+
+    public static EntityMetadata of(Class<?> entityClass) {
+        EntityMetadata metadata = CACHE.get(entityClass);
+
+        if (metadata == null) {
+            if (!entityClass.isAnnotationPresent(Table.class)) {
+                throw new IllegalArgumentException("The class does not have the annotation @Table.");
+            }
+
+            metadata = new EntityMetadata(entityClass);
+            EntityMetadata previous = CACHE.putIfAbsent(entityClass, metadata);
+
+            if (previous != null) {
+                metadata = previous;
+            }
+        }
+
+        return metadata;
+    }
+
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public List<ColumnMetadata> getColumns() {
+        return columns;
+    }
+
+    public List<ColumnMetadata> getPrimaryKeys() {
+        return primaryKeys;
+    }
+
+    public List<ColumnMetadata> getNonPrimaryKeys() {
+        return nonPrimaryKeys;
+    }
+
+    public List<ColumnMetadata> getGeneratedColumns() {
+        return generatedColumns;
+    }
+
+    public boolean isGeneratedValueMissing(Object entity) {
+        for (ColumnMetadata column : generatedColumns) {
+            if (column.isMissing(entity)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public ColumnMetadata getColumn(String columnName) {
+        return columnsByName.get(columnName);
+    }
+
+    public String[] getLabels() {
+        return labels;
+    }
+
+    public List<JoinMetadata> getAssociations() {
+        return associations;
+    }
+
+    public List<JoinMetadata> getJoins() {
+        return joins;
+    }
+
+    public List<JoinMetadata> getBatchJoins() {
+        return batchJoins;
+    }
+
+    public List<JoinMetadata> getLazyJoins() {
+        return lazyJoins;
+    }
+
+    public JoinMetadata getAssociation(String fieldName) {
+        for (JoinMetadata join : associations) {
+            if (join.getField().getName().equals(fieldName)) {
+                return join;
+            }
+        }
+
+        return null;
+    }
+
+    public List<ColumnMetadata> requirePrimaryKeys() {
+        if (primaryKeys.isEmpty()) {
+            throw new IllegalArgumentException("Classe sem @PrimaryKey");
+        }
+
+        return primaryKeys;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T newInstance() throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
+        Constructor<?> result = constructor;
+
+        if (result == null) {
+            result = entityClass.getDeclaredConstructor();
+            result.setAccessible(true);
+            constructor = result;
+        }
+
+        return (T) result.newInstance();
+    }
+
+    public String getSql(Object key, Supplier<String> renderer) {
+        String sql = sqlCache.get(key);
+
+        if (sql == null) {
+            sql = renderer.get();
+            sqlCache.put(key, sql);
+        }
+
+        return sql;
+    }
+
+    EntityMapper getMapper(String shape) {
+        return mapperCache.get(shape);
+    }
+
+    void putMapper(String shape, EntityMapper mapper) {
+        mapperCache.putIfAbsent(shape, mapper);
+    }
+
+}
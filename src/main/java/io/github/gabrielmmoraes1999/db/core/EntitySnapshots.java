@@ -0,0 +1,123 @@
+package io.github.gabrielmmoraes1999.db.core;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class EntitySnapshots {
+
+    private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<>();
+    private static final Map<Key, Object[]> SNAPSHOTS = new ConcurrentHashMap<>();
+
+    private EntitySnapshots() {}
+
+    public static void take(EntityMetadata metadata, Object entity) {
+        List<ColumnMetadata> columns = metadata.getColumns();
+        Object[] values = new Object[columns.size()];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = copy(columns.get(i).get(entity));
+        }
+
+        expunge();
+        SNAPSHOTS.put(new Key(entity, QUEUE), values);
+    }
+
+    public static Object[] get(Object entity) {
+        return SNAPSHOTS.get(new Key(entity, null));
+    }
+
+    public static void clear(Object entity) {
+        SNAPSHOTS.remove(new Key(entity, null));
+    }
+
+    public static BitSet changedColumns(EntityMetadata metadata, Object entity) {
+        Object[] values = get(entity);
+
+        if (values == null) {
+            return null;
+        }
+
+        List<ColumnMetadata> columns = metadata.getColumns();
+        BitSet changed = new BitSet(columns.size());
+
+        for (int i = 0; i < values.length; i++) {
+            ColumnMetadata column = columns.get(i);
+
+            if (column.isPrimaryKey()) {
+                continue;
+            }
+
+            Object value = column.get(entity);
+
+            if (value instanceof byte[] && values[i] instanceof byte[]) {
+                if (!Arrays.equals((byte[]) value, (byte[]) values[i])) {
+                    changed.set(i);
+                }
+            } else if (!Objects.equals(value, values[i])) {
+                changed.set(i);
+            }
+        }
+
+        return changed;
+    }
+
+    private static Object copy(Object value) {
+        if (value instanceof byte[]) {
+            return ((byte[]) value).clone();
+        } else if (value instanceof Date) {
+            return ((Date) value).clone();
+        } else if (value instanceof Calendar) {
+            return ((Calendar) value).clone();
+        }
+
+        return value;
+    }
+
+    private static void expunge() {
+        Reference<?> reference;
+
+        while ((reference = QUEUE.poll()) != null) {
+            SNAPSHOTS.remove(reference);
+        }
+    }
+
+    private static final class Key extends WeakReference<Object> {
+
+        private final int hash;
+
+        private Key(Object entity, ReferenceQueue<Object> queue) {
+            super(entity, queue);
+            this.hash = System.identityHashCode(entity);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+
+            if (!(other instanceof Key)) {
+                return false;
+            }
+
+            Object entity = get();
+            return entity != null && entity == ((Key) other).get();
+        }
+
+    }
+
+}
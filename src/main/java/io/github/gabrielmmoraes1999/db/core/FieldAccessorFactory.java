@@ -0,0 +1,9 @@
+package io.github.gabrielmmoraes1999.db.core;
+
+import java.lang.reflect.Field;
+
+public interface FieldAccessorFactory {
+
+    FieldAccessor create(Field field);
+
+}
@@ -0,0 +1,31 @@
+package io.github.gabrielmmoraes1999.db.core;
+
+import java.lang.reflect.Field;
+
+public class FieldAccessors {
+
+    public static final FieldAccessorFactory METHOD_HANDLE = field -> {
+        try {
+            return new MethodHandleFieldAccessor(field);
+        } catch (IllegalAccessException | RuntimeException ex) {
+            return new ReflectionFieldAccessor(field);
+        }
+    };
+
+    public static final FieldAccessorFactory REFLECTION = ReflectionFieldAccessor::new;
+
+    private static volatile FieldAccessorFactory factory = METHOD_HANDLE;
+
+    public static void setFactory(FieldAccessorFactory factory) {
+        FieldAccessors.factory = factory == null ? METHOD_HANDLE : factory;
+    }
+
+    public static FieldAccessorFactory getFactory() {
+        return factory;
+    }
+
+    public static FieldAccessor of(Field field) {
+        return factory.create(field);
+    }
+
+}
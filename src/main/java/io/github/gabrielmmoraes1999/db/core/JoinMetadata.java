@@ -0,0 +1,199 @@
+package io.github.gabrielmmoraes1999.db.core;
+
+import io.github.gabrielmmoraes1999.db.annotation.FetchMode;
+import io.github.gabrielmmoraes1999.db.annotation.FetchType;
+import io.github.gabrielmmoraes1999.db.annotation.JoinColumn;
+import io.github.gabrielmmoraes1999.db.annotation.JoinColumns;
+import io.github.gabrielmmoraes1999.db.annotation.OneToMany;
+import io.github.gabrielmmoraes1999.db.annotation.OneToOne;
+import io.github.gabrielmmoraes1999.db.annotation.Table;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.List;
+
+public class JoinMetadata {
+
+    private final Field field;
+    private final FieldAccessor accessor;
+    private final Class<?> targetClass;
+    private final String alias;
+    private final boolean oneToMany;
+    private final boolean collection;
+    private final JoinColumn[] joinColumns;
+    private final boolean joinColumnsPresent;
+    private final boolean batchFetch;
+    private final boolean lazy;
+
+    private volatile String[] labels;
+    private volatile ColumnMetadata[] parentColumns;
+    private volatile ColumnMetadata[] childColumns;
+
+    JoinMetadata(Field field, Class<?> targetClass, String alias) {
+        field.setAccessible(true);
+
+        this.field = field;
+        this.accessor = FieldAccessors.of(field);
+        this.targetClass = targetClass;
+        this.alias = alias;
+        this.oneToMany = field.isAnnotationPresent(OneToMany.class);
+        this.collection = Collection.class.isAssignableFrom(field.getType());
+
+        JoinColumns joinColumnsAnnotation = field.getAnnotation(JoinColumns.class);
+        JoinColumn joinColumnAnnotation = field.getAnnotation(JoinColumn.class);
+
+        if (joinColumnsAnnotation != null) {
+            this.joinColumns = joinColumnsAnnotation.value();
+        } else if (joinColumnAnnotation != null) {
+            this.joinColumns = new JoinColumn[]{joinColumnAnnotation};
+        } else {
+            this.joinColumns = null;
+        }
+
+        this.joinColumnsPresent = joinColumnsAnnotation != null;
+
+        OneToMany oneToManyAnnotation = field.getAnnotation(OneToMany.class);
+        OneToOne oneToOneAnnotation = field.getAnnotation(OneToOne.class);
+        FetchType fetchType = oneToManyAnnotation != null ? oneToManyAnnotation.fetch() : oneToOneAnnotation.fetch();
+
+        this.lazy = fetchType == FetchType.LAZY && alias != null;
+        this.batchFetch = !lazy && oneToManyAnnotation != null && oneToManyAnnotation.fetchMode() == FetchMode.BATCH && alias != null;
+
+        if (batchFetch && joinColumns == null) {
+            throw new RuntimeException("@OneToMany com FetchMode.BATCH requer @JoinColumn: " + field.getName());
+        }
+
+        if (lazy && joinColumns == null) {
+            throw new RuntimeException("Associação LAZY requer @JoinColumn: " + field.getName());
+        }
+
+        if (lazy && collection && !field.getType().isAssignableFrom(LazyList.class)) {
+            throw new RuntimeException("Associação LAZY requer campo do tipo List: " + field.getName());
+        }
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public Class<?> getTargetClass() {
+        return targetClass;
+    }
+
+    public EntityMetadata getTarget() {
+        if (!targetClass.isAnnotationPresent(Table.class)) {
+            throw new RuntimeException("Classe filha sem @Table");
+        }
+
+        return EntityMetadata.of(targetClass);
+    }
+
+    public String getAlias() {
+        return alias;
+    }
+
+    public boolean isJoinable() {
+        return alias != null;
+    }
+
+    public boolean isOneToMany() {
+        return oneToMany;
+    }
+
+    public boolean isBatchFetch() {
+        return batchFetch;
+    }
+
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    public boolean isLoaded(Object entity) {
+        Object value = get(entity);
+        return !(value instanceof LazyList) || ((LazyList<?>) value).isInitialized();
+    }
+
+    public boolean isCollection() {
+        return collection;
+    }
+
+    public JoinColumn[] getJoinColumns() {
+        return joinColumns;
+    }
+
+    public boolean isJoinColumnsPresent() {
+        return joinColumnsPresent;
+    }
+
+    public FieldAccessor getAccessor() {
+        return accessor;
+    }
+
+    public Object get(Object entity) {
+        return accessor.get(entity);
+    }
+
+    public void set(Object entity, Object value) {
+        accessor.set(entity, value);
+    }
+
+    public String[] getLabels() {
+        String[] result = labels;
+
+        if (result == null) {
+            List<ColumnMetadata> columns = getTarget().getColumns();
+            String prefix = alias.toUpperCase() + "_";
+            result = new String[columns.size()];
+
+            for (int i = 0; i < result.length; i++) {
+                result[i] = prefix + columns.get(i).getName();
+            }
+
+            labels = result;
+        }
+
+        return result;
+    }
+
+    public ColumnMetadata[] getParentColumns(EntityMetadata parent) {
+        ColumnMetadata[] result = parentColumns;
+
+        if (result == null) {
+            result = new ColumnMetadata[joinColumns.length];
+
+            for (int i = 0; i < joinColumns.length; i++) {
+                result[i] = parent.getColumn(joinColumns[i].referencedColumnName());
+
+                if (result[i] == null) {
+                    throw new RuntimeException("JoinColumn inválido: '" + joinColumns[i].name() + "' não existente na tabela pai.");
+                }
+            }
+
+            parentColumns = result;
+        }
+
+        return result;
+    }
+
+    public ColumnMetadata[] getChildColumns() {
+        ColumnMetadata[] result = childColumns;
+
+        if (result == null) {
+            EntityMetadata target = getTarget();
+            result = new ColumnMetadata[joinColumns.length];
+
+            for (int i = 0; i < joinColumns.length; i++) {
+                result[i] = target.getColumn(joinColumns[i].name());
+
+                if (result[i] == null) {
+                    throw new RuntimeException("JoinColumn inválido: '" + joinColumns[i].name() + "' não existente na tabela filha.");
+                }
+            }
+
+            childColumns = result;
+        }
+
+        return result;
+    }
+
+}
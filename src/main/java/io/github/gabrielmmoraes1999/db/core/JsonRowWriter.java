@@ -0,0 +1,97 @@
+package io.github.gabrielmmoraes1999.db.core;
+
+import org.json.JSONObject;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+public class JsonRowWriter {
+
+    private final Writer writer;
+    private String[] keys;
+
+    public JsonRowWriter(Writer writer) {
+        this.writer = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer);
+    }
+
+    public JsonRowWriter(OutputStream outputStream) {
+        this(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    public static JsonRowWriter of(Object target) {
+        if (target instanceof Writer) {
+            return new JsonRowWriter((Writer) target);
+        } else if (target instanceof OutputStream) {
+            return new JsonRowWriter((OutputStream) target);
+        }
+
+        throw new IllegalArgumentException("Destino JSON inválido: " + (target == null ? null : target.getClass().getName()));
+    }
+
+    public static boolean isTarget(Class<?> type) {
+        return Writer.class.isAssignableFrom(type) || OutputStream.class.isAssignableFrom(type);
+    }
+
+    public int writeArray(ResultSet resultSet) throws SQLException, IOException {
+        int rows = 0;
+        writer.write('[');
+
+        while (resultSet.next()) {
+            if (rows > 0) {
+                writer.write(',');
+            }
+
+            writeObject(resultSet);
+            rows++;
+        }
+
+        writer.write(']');
+        writer.flush();
+        return rows;
+    }
+
+    public void writeObject(ResultSet resultSet) throws SQLException, IOException {
+        if (keys == null) {
+            keys = keys(resultSet.getMetaData());
+        }
+
+        boolean first = true;
+        writer.write('{');
+
+        for (int i = 0; i < keys.length; i++) {
+            Object value = resultSet.getObject(i + 1);
+
+            if (value == null) {
+                continue;
+            }
+
+            if (!first) {
+                writer.write(',');
+            }
+
+            writer.write(keys[i]);
+            writer.write(JSONObject.valueToString(value));
+            first = false;
+        }
+
+        writer.write('}');
+    }
+
+    private static String[] keys(ResultSetMetaData metaData) throws SQLException {
+        String[] result = new String[metaData.getColumnCount()];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = JSONObject.quote(metaData.getColumnLabel(i + 1)) + ":";
+        }
+
+        return result;
+    }
+
+}
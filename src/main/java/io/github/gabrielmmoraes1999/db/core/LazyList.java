@@ -0,0 +1,103 @@
+package io.github.gabrielmmoraes1999.db.core;
+
+import java.sql.Connection;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+public class LazyList<E> extends AbstractList<E> implements RandomAccess {
+
+    private final Connection connection;
+    private final Initializer initializer;
+    private volatile List<E> delegate;
+
+    public LazyList(Initializer initializer) {
+        this(null, initializer);
+    }
+
+    public LazyList(Connection connection, Initializer initializer) {
+        this.connection = connection;
+        this.initializer = initializer;
+    }
+
+    public Connection getConnection() {
+        return connection;
+    }
+
+    public boolean isInitialized() {
+        return delegate != null;
+    }
+
+    public synchronized void initialize(List<? extends E> values) {
+        if (delegate == null) {
+            delegate = new ArrayList<>(values);
+        }
+    }
+
+    private List<E> delegate() {
+        List<E> result = delegate;
+
+        if (result == null) {
+            synchronized (this) {
+                if (delegate == null) {
+                    try {
+                        initializer.initialize();
+                    } catch (RuntimeException ex) {
+                        throw ex;
+                    } catch (Exception ex) {
+                        throw new RuntimeException(ex);
+                    }
+
+                    if (delegate == null) {
+                        delegate = new ArrayList<>();
+                    }
+                }
+
+                result = delegate;
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public E get(int index) {
+        return delegate().get(index);
+    }
+
+    @Override
+    public int size() {
+        return delegate().size();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return delegate().set(index, element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        delegate().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        E removed = delegate().remove(index);
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public String toString() {
+        return isInitialized() ? delegate.toString() : "[uninitialized]";
+    }
+
+    public interface Initializer {
+
+        void initialize() throws Exception;
+
+    }
+
+}
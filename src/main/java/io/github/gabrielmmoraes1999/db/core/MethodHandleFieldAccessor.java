@@ -0,0 +1,174 @@
+package io.github.gabrielmmoraes1999.db.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+public class MethodHandleFieldAccessor implements FieldAccessor {
+
+    private final Class<?> type;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final MethodHandle primitiveGetter;
+    private final MethodHandle primitiveSetter;
+
+    public MethodHandleFieldAccessor(Field field) throws IllegalAccessException {
+        field.setAccessible(true);
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle fieldGetter = lookup.unreflectGetter(field);
+        MethodHandle fieldSetter = lookup.unreflectSetter(field);
+
+        this.type = field.getType();
+        this.getter = fieldGetter.asType(MethodType.methodType(Object.class, Object.class));
+        this.setter = fieldSetter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+
+        if (type.isPrimitive()) {
+            this.primitiveGetter = fieldGetter.asType(MethodType.methodType(type, Object.class));
+            this.primitiveSetter = fieldSetter.asType(MethodType.methodType(void.class, Object.class, type));
+        } else {
+            this.primitiveGetter = null;
+            this.primitiveSetter = null;
+        }
+    }
+
+    @Override
+    public Object get(Object entity) {
+        try {
+            return getter.invokeExact(entity);
+        } catch (Throwable ex) {
+            throw propagate(ex);
+        }
+    }
+
+    @Override
+    public void set(Object entity, Object value) {
+        try {
+            setter.invokeExact(entity, value);
+        } catch (Throwable ex) {
+            throw propagate(ex);
+        }
+    }
+
+    @Override
+    public int getInt(Object entity) {
+        if (type != int.class) {
+            return FieldAccessor.super.getInt(entity);
+        }
+
+        try {
+            return (int) primitiveGetter.invokeExact(entity);
+        } catch (Throwable ex) {
+            throw propagate(ex);
+        }
+    }
+
+    @Override
+    public void setInt(Object entity, int value) {
+        if (type != int.class) {
+            FieldAccessor.super.setInt(entity, value);
+            return;
+        }
+
+        try {
+            primitiveSetter.invokeExact(entity, value);
+        } catch (Throwable ex) {
+            throw propagate(ex);
+        }
+    }
+
+    @Override
+    public long getLong(Object entity) {
+        if (type != long.class) {
+            return FieldAccessor.super.getLong(entity);
+        }
+
+        try {
+            return (long) primitiveGetter.invokeExact(entity);
+        } catch (Throwable ex) {
+            throw propagate(ex);
+        }
+    }
+
+    @Override
+    public void setLong(Object entity, long value) {
+        if (type != long.class) {
+            FieldAccessor.super.setLong(entity, value);
+            return;
+        }
+
+        try {
+            primitiveSetter.invokeExact(entity, value);
+        } catch (Throwable ex) {
+            throw propagate(ex);
+        }
+    }
+
+    @Override
+    public double getDouble(Object entity) {
+        if (type != double.class) {
+            return FieldAccessor.super.getDouble(entity);
+        }
+
+        try {
+            return (double) primitiveGetter.invokeExact(entity);
+        } catch (Throwable ex) {
+            throw propagate(ex);
+        }
+    }
+
+    @Override
+    public void setDouble(Object entity, double value) {
+        if (type != double.class) {
+            FieldAccessor.super.setDouble(entity, value);
+            return;
+        }
+
+        try {
+            primitiveSetter.invokeExact(entity, value);
+        } catch (Throwable ex) {
+            throw propagate(ex);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(Object entity) {
+        if (type != boolean.class) {
+            return FieldAccessor.super.getBoolean(entity);
+        }
+
+        try {
+            return (boolean) primitiveGetter.invokeExact(entity);
+        } catch (Throwable ex) {
+            throw propagate(ex);
+        }
+    }
+
+    @Override
+    public void setBoolean(Object entity, boolean value) {
+        if (type != boolean.class) {
+            FieldAccessor.super.setBoolean(entity, value);
+            return;
+        }
+
+        try {
+            primitiveSetter.invokeExact(entity, value);
+        } catch (Throwable ex) {
+            throw propagate(ex);
+        }
+    }
+
+    private static RuntimeException propagate(Throwable ex) {
+        if (ex instanceof RuntimeException) {
+            return (RuntimeException) ex;
+        }
+
+        if (ex instanceof Error) {
+            throw (Error) ex;
+        }
+
+        return new IllegalStateException(ex);
+    }
+
+}
@@ -0,0 +1,394 @@
+package io.github.gabrielmmoraes1999.db.core;
+
+import io.github.gabrielmmoraes1999.db.annotation.Projection;
+import io.github.gabrielmmoraes1999.db.annotation.Table;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ProjectionMetadata {
+
+    private static final Map<List<Class<?>>, ProjectionMetadata> CACHE = new ConcurrentHashMap<>();
+
+    private final Class<?> type;
+    private final String[] names;
+    private final Class<?>[] types;
+    private final ColumnMetadata[] columns;
+    private final Map<Method, Integer> getters;
+    private final Constructor<?> constructor;
+    private final int[] parameterIndexes;
+    private final FieldAccessor[] accessors;
+
+    private ProjectionMetadata(Class<?> entityClass, Class<?> type) {
+        List<String> names = new ArrayList<>();
+        List<Class<?>> types = new ArrayList<>();
+        Map<Method, Integer> getters = new HashMap<>();
+        List<Field> fields = new ArrayList<>();
+
+        if (type.isInterface()) {
+            List<Method> methods = new ArrayList<>(Arrays.asList(type.getMethods()));
+            methods.sort(Comparator.comparing(Method::getName));
+
+            for (Method method : methods) {
+                String name = propertyName(method);
+
+                if (name == null) {
+                    continue;
+                }
+
+                getters.put(method, names.size());
+                names.add(name);
+                types.add(method.getReturnType());
+            }
+        } else {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+
+                fields.add(field);
+                names.add(field.getName());
+                types.add(field.getType());
+            }
+        }
+
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("Projeção sem propriedades: " + type.getName());
+        }
+
+        this.type = type;
+        this.names = names.toArray(new String[0]);
+        this.types = types.toArray(new Class<?>[0]);
+        this.columns = new ColumnMetadata[this.names.length];
+        this.getters = Collections.unmodifiableMap(getters);
+
+        EntityMetadata metadata = entityClass == null ? null : EntityMetadata.of(entityClass);
+
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = metadata == null ? null : findColumn(metadata, this.names[i]);
+        }
+
+        if (type.isInterface()) {
+            this.constructor = null;
+            this.parameterIndexes = null;
+            this.accessors = null;
+            return;
+        }
+
+        Constructor<?> allArgs = null;
+        int[] parameterIndexes = null;
+        boolean ambiguous = false;
+
+        for (Constructor<?> candidate : type.getDeclaredConstructors()) {
+            if (candidate.isSynthetic() || !sameTypes(candidate.getParameterTypes(), this.types)) {
+                continue;
+            }
+
+            int[] indexes = parameterIndexes(candidate.getParameters(), this.names, this.types);
+
+            if (indexes == null || allArgs != null) {
+                ambiguous = true;
+            } else {
+                allArgs = candidate;
+                parameterIndexes = indexes;
+            }
+        }
+
+        if (allArgs != null && !ambiguous) {
+            allArgs.setAccessible(true);
+            this.constructor = allArgs;
+            this.parameterIndexes = parameterIndexes;
+            this.accessors = null;
+            return;
+        }
+
+        try {
+            this.constructor = type.getDeclaredConstructor();
+            this.constructor.setAccessible(true);
+        } catch (NoSuchMethodException ex) {
+            if (ambiguous) {
+                throw new IllegalArgumentException("Construtor da projeção ambíguo: " + type.getName()
+                        + " (compile com -parameters ou declare um construtor sem argumentos)");
+            }
+
+            throw new IllegalArgumentException("Projeção sem construtor compatível: " + type.getName());
+        }
+
+        this.parameterIndexes = null;
+        this.accessors = new FieldAccessor[fields.size()];
+
+        for (int i = 0; i < accessors.length; i++) {
+            fields.get(i).setAccessible(true);
+            accessors[i] = FieldAccessors.of(fields.get(i));
+        }
+    }
+
+    public static ProjectionMetadata of(Class<?> entityClass, Class<?> type) {
+        return CACHE.computeIfAbsent(Arrays.asList(entityClass, type), key -> new ProjectionMetadata(entityClass, type));
+    }
+
+    public static boolean isProjection(Class<?> entityClass, Class<?> type) {
+        if (type == null || type == entityClass || type.isAnnotationPresent(Table.class)) {
+            return false;
+        } else if (type.isAnnotationPresent(Projection.class)) {
+            return true;
+        } else if (!type.isInterface() || type.isAnnotation()) {
+            return false;
+        }
+
+        String name = type.getName();
+        return !name.startsWith("java.") && !name.startsWith("javax.") && !name.startsWith("org.json.") && !name.startsWith("io.github.gabrielmmoraes1999.db.");
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public List<ColumnMetadata> requireColumns() {
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] == null) {
+                throw new IllegalArgumentException("Propriedade da projeção não encontrada na entidade: " + names[i]);
+            }
+        }
+
+        return Arrays.asList(columns);
+    }
+
+    public ResultReader reader() {
+        return new ResultReader();
+    }
+
+    private Object create(Object[] values) throws ReflectiveOperationException {
+        if (type.isInterface()) {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, new Values(values));
+        }
+
+        if (accessors == null) {
+            Object[] arguments = new Object[parameterIndexes.length];
+
+            for (int i = 0; i < arguments.length; i++) {
+                int index = parameterIndexes[i];
+                arguments[i] = values[index] == null && types[index].isPrimitive() ? Array.get(Array.newInstance(types[index], 1), 0) : values[index];
+            }
+
+            return constructor.newInstance(arguments);
+        }
+
+        Object result = constructor.newInstance();
+
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null || !types[i].isPrimitive()) {
+                accessors[i].set(result, values[i]);
+            }
+        }
+
+        return result;
+    }
+
+    private static boolean sameTypes(Class<?>[] parameterTypes, Class<?>[] types) {
+        if (parameterTypes.length != types.length) {
+            return false;
+        }
+
+        Comparator<Class<?>> byName = Comparator.comparing(Class::getName);
+        Class<?>[] a = parameterTypes.clone();
+        Class<?>[] b = types.clone();
+        Arrays.sort(a, byName);
+        Arrays.sort(b, byName);
+        return Arrays.equals(a, b);
+    }
+
+    private static int[] parameterIndexes(Parameter[] parameters, String[] names, Class<?>[] types) {
+        int[] byName = new int[parameters.length];
+        int[] byType = new int[parameters.length];
+
+        for (int i = 0; i < parameters.length; i++) {
+            byName[i] = parameters[i].isNamePresent() ? indexOf(names, parameters[i].getName()) : -1;
+            byType[i] = -1;
+
+            for (int j = 0; j < types.length; j++) {
+                if (types[j] == parameters[i].getType()) {
+                    byType[i] = byType[i] == -1 ? j : -2;
+                }
+            }
+        }
+
+        if (matches(byName, parameters, types)) {
+            return byName;
+        } else if (matches(byType, parameters, types)) {
+            return byType;
+        }
+
+        return null;
+    }
+
+    private static boolean matches(int[] indexes, Parameter[] parameters, Class<?>[] types) {
+        for (int i = 0; i < indexes.length; i++) {
+            if (indexes[i] < 0 || types[indexes[i]] != parameters[i].getType()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static int indexOf(String[] names, String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static ColumnMetadata findColumn(EntityMetadata metadata, String name) {
+        for (ColumnMetadata column : metadata.getColumns()) {
+            if (column.getField().getName().equals(name)) {
+                return column;
+            }
+        }
+
+        for (ColumnMetadata column : metadata.getColumns()) {
+            if (column.getName().equalsIgnoreCase(name)) {
+                return column;
+            }
+        }
+
+        return null;
+    }
+
+    private static String propertyName(Method method) {
+        if (method.getParameterCount() != 0 || method.isDefault() || Modifier.isStatic(method.getModifiers()) || method.getReturnType() == void.class) {
+            return null;
+        }
+
+        String name = method.getName();
+        String property;
+
+        if (name.startsWith("get") && name.length() > 3) {
+            property = name.substring(3);
+        } else if (name.startsWith("is") && name.length() > 2 && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class)) {
+            property = name.substring(2);
+        } else {
+            return null;
+        }
+
+        return Character.toLowerCase(property.charAt(0)) + property.substring(1);
+    }
+
+    public class ResultReader {
+
+        private int[] indexes;
+
+        private ResultReader() {}
+
+        public Object read(ResultSet rs) throws SQLException {
+            if (indexes == null) {
+                indexes = indexes(rs.getMetaData());
+            }
+
+            Object[] values = new Object[indexes.length];
+
+            for (int i = 0; i < values.length; i++) {
+                values[i] = ColumnReaders.read(types[i], rs, indexes[i]);
+            }
+
+            try {
+                return create(values);
+            } catch (ReflectiveOperationException ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+
+        private int[] indexes(ResultSetMetaData metaData) throws SQLException {
+            Map<String, Integer> labelIndexes = new HashMap<>();
+
+            for (int i = metaData.getColumnCount(); i >= 1; i--) {
+                labelIndexes.put(metaData.getColumnLabel(i).toUpperCase(), i);
+            }
+
+            int[] result = new int[names.length];
+
+            for (int i = 0; i < result.length; i++) {
+                Integer index = columns[i] == null ? null : labelIndexes.get(columns[i].getName().toUpperCase());
+
+                if (index == null) {
+                    index = labelIndexes.get(names[i].toUpperCase());
+                }
+
+                if (index == null) {
+                    throw new SQLException("Column not found: " + names[i]);
+                }
+
+                result[i] = index;
+            }
+
+            return result;
+        }
+
+    }
+
+    private class Values implements InvocationHandler {
+
+        private final Object[] values;
+
+        private Values(Object[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            Integer index = getters.get(method);
+
+            if (index != null) {
+                Object value = values[index];
+                return value == null && types[index].isPrimitive() ? Array.get(Array.newInstance(types[index], 1), 0) : value;
+            }
+
+            switch (method.getName()) {
+                case "toString":
+                    StringJoiner joiner = new StringJoiner(", ", type.getSimpleName() + "{", "}");
+
+                    for (int i = 0; i < names.length; i++) {
+                        joiner.add(names[i] + "=" + values[i]);
+                    }
+
+                    return joiner.toString();
+                case "hashCode":
+                    return Arrays.hashCode(values);
+                case "equals":
+                    Object other = args[0];
+
+                    if (other == null || !Proxy.isProxyClass(other.getClass())) {
+                        return false;
+                    }
+
+                    InvocationHandler handler = Proxy.getInvocationHandler(other);
+                    return handler instanceof ProjectionMetadata.Values && Arrays.equals(values, ((Values) handler).values);
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,104 @@
+package io.github.gabrielmmoraes1999.db.core;
+
+import java.lang.reflect.Field;
+
+public class ReflectionFieldAccessor implements FieldAccessor {
+
+    private final Field field;
+
+    public ReflectionFieldAccessor(Field field) {
+        field.setAccessible(true);
+        this.field = field;
+    }
+
+    @Override
+    public Object get(Object entity) {
+        try {
+            return field.get(entity);
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Override
+    public void set(Object entity, Object value) {
+        try {
+            field.set(entity, value);
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Override
+    public int getInt(Object entity) {
+        try {
+            return field.getInt(entity);
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Override
+    public void setInt(Object entity, int value) {
+        try {
+            field.setInt(entity, value);
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Override
+    public long getLong(Object entity) {
+        try {
+            return field.getLong(entity);
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Override
+    public void setLong(Object entity, long value) {
+        try {
+            field.setLong(entity, value);
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Override
+    public double getDouble(Object entity) {
+        try {
+            return field.getDouble(entity);
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Override
+    public void setDouble(Object entity, double value) {
+        try {
+            field.setDouble(entity, value);
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(Object entity) {
+        try {
+            return field.getBoolean(entity);
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Override
+    public void setBoolean(Object entity, boolean value) {
+        try {
+            field.setBoolean(entity, value);
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+}
@@ -0,0 +1,174 @@
+package io.github.gabrielmmoraes1999.db.core;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class ResultCursor<T> implements Iterator<T>, AutoCloseable {
+
+    protected final ResultSet resultSet;
+    private final PreparedStatement preparedStatement;
+    private final RowReader<T> reader;
+    private final List<Resource> resources = new ArrayList<>();
+    private boolean positioned;
+    private boolean finished;
+    private boolean closed;
+
+    public ResultCursor(PreparedStatement preparedStatement, ResultSet resultSet, RowReader<T> reader) {
+        this.preparedStatement = preparedStatement;
+        this.resultSet = resultSet;
+        this.reader = reader;
+    }
+
+    public static <T> ResultCursor<T> open(PreparedStatement preparedStatement, RowReader<T> reader) throws SQLException {
+        try {
+            return new ResultCursor<>(preparedStatement, preparedStatement.executeQuery(), reader);
+        } catch (SQLException | RuntimeException ex) {
+            preparedStatement.close();
+            throw ex;
+        }
+    }
+
+    public ResultCursor<T> onClose(Resource resource) {
+        resources.add(resource);
+        return this;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (position()) {
+            return true;
+        }
+
+        closeUnchecked();
+        return false;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        consume();
+
+        try {
+            return read();
+        } catch (Exception ex) {
+            throw failure(ex);
+        }
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(this::closeUnchecked);
+    }
+
+    protected T read() throws Exception {
+        return reader.read(resultSet);
+    }
+
+    protected boolean position() {
+        if (positioned) {
+            return true;
+        }
+
+        if (finished) {
+            return false;
+        }
+
+        try {
+            positioned = resultSet.next();
+        } catch (SQLException ex) {
+            throw failure(ex);
+        }
+
+        if (!positioned) {
+            finished = true;
+        }
+
+        return positioned;
+    }
+
+    protected void consume() {
+        positioned = false;
+    }
+
+    protected boolean advance() throws SQLException {
+        if (resultSet.next()) {
+            return true;
+        }
+
+        finished = true;
+        return false;
+    }
+
+    protected void pushBack() {
+        positioned = true;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        finished = true;
+        positioned = false;
+
+        SQLException exception = null;
+        List<Resource> closeables = new ArrayList<>();
+        closeables.add(resultSet::close);
+        closeables.add(preparedStatement::close);
+        closeables.addAll(resources);
+
+        for (Resource closeable : closeables) {
+            try {
+                closeable.close();
+            } catch (SQLException ex) {
+                if (exception == null) {
+                    exception = ex;
+                }
+            }
+        }
+
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    private void closeUnchecked() {
+        try {
+            close();
+        } catch (SQLException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    protected RuntimeException failure(Exception ex) {
+        try {
+            close();
+        } catch (Exception suppressed) {
+            ex.addSuppressed(suppressed);
+        }
+
+        return ex instanceof RuntimeException ? (RuntimeException) ex : new RuntimeException(ex);
+    }
+
+    public interface Resource {
+
+        void close() throws SQLException;
+
+    }
+
+    public interface RowReader<T> {
+
+        T read(ResultSet resultSet) throws Exception;
+
+    }
+
+}
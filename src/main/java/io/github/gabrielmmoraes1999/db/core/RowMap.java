@@ -0,0 +1,183 @@
+package io.github.gabrielmmoraes1999.db.core;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+public class RowMap extends AbstractMap<String, Object> {
+
+    private final Header header;
+    private final Object[] values;
+
+    private RowMap(Header header, Object[] values) {
+        this.header = header;
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return header.indexes.containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        Integer index = header.indexes.get(key);
+        return index == null ? null : values[index];
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Integer index = header.indexes.get(key);
+
+        if (index == null) {
+            throw new UnsupportedOperationException("Coluna não encontrada: " + key);
+        }
+
+        Object previous = values[index];
+        values[index] = value;
+        return previous;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<Entry<String, Object>>() {
+
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < values.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (index >= values.length) {
+                            throw new NoSuchElementException();
+                        }
+
+                        return new Cell(index++);
+                    }
+
+                };
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+
+        };
+    }
+
+    public static class Header {
+
+        private final String[] labels;
+        private final int[] columns;
+        private final Map<String, Integer> indexes;
+
+        private Header(ResultSetMetaData metaData) throws SQLException {
+            Map<String, Integer> indexes = new HashMap<>();
+            List<String> labels = new ArrayList<>();
+            List<Integer> columns = new ArrayList<>();
+
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                String label = metaData.getColumnLabel(i);
+                Integer index = indexes.get(label);
+
+                if (index == null) {
+                    indexes.put(label, labels.size());
+                    labels.add(label);
+                    columns.add(i);
+                } else {
+                    columns.set(index, i);
+                }
+            }
+
+            this.labels = labels.toArray(new String[0]);
+            this.columns = columns.stream().mapToInt(Integer::intValue).toArray();
+            this.indexes = Collections.unmodifiableMap(indexes);
+        }
+
+        public static Header of(ResultSet resultSet) throws SQLException {
+            return new Header(resultSet.getMetaData());
+        }
+
+        public RowMap read(ResultSet resultSet) throws SQLException {
+            Object[] values = new Object[columns.length];
+
+            for (int i = 0; i < values.length; i++) {
+                values[i] = resultSet.getObject(columns[i]);
+            }
+
+            return new RowMap(this, values);
+        }
+
+    }
+
+    private class Cell implements Entry<String, Object> {
+
+        private final int index;
+
+        private Cell(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return header.labels[index];
+        }
+
+        @Override
+        public Object getValue() {
+            return values[index];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Object previous = values[index];
+            values[index] = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Entry)) {
+                return false;
+            }
+
+            Entry<?, ?> entry = (Entry<?, ?>) other;
+            return getKey().equals(entry.getKey()) && (getValue() == null ? entry.getValue() == null : getValue().equals(entry.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ (getValue() == null ? 0 : getValue().hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+
+    }
+
+}
@@ -0,0 +1,82 @@
+package io.github.gabrielmmoraes1999.db.core;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+public class RowMapper {
+
+    private final EntityMetadata metadata;
+    private final ColumnReader[] readers;
+    private final int[] indexes;
+    private final int[] keyIndexes;
+    private final boolean numericKey;
+
+    RowMapper(EntityMetadata metadata, String[] labels, Map<String, Integer> labelIndexes) throws SQLException {
+        List<ColumnMetadata> columns = metadata.getColumns();
+        List<ColumnMetadata> primaryKeys = metadata.getPrimaryKeys();
+
+        this.metadata = metadata;
+        this.readers = new ColumnReader[columns.size()];
+        this.indexes = new int[columns.size()];
+        this.keyIndexes = new int[primaryKeys.size()];
+
+        int key = 0;
+        for (int i = 0; i < readers.length; i++) {
+            Integer index = labelIndexes.get(labels[i].toUpperCase());
+
+            if (index == null) {
+                throw new SQLException("Column not found: " + labels[i]);
+            }
+
+            readers[i] = columns.get(i).getReader();
+            indexes[i] = index;
+
+            if (columns.get(i).isPrimaryKey()) {
+                keyIndexes[key++] = index;
+            }
+        }
+
+        this.numericKey = primaryKeys.size() == 1 && isIntegral(primaryKeys.get(0).getType());
+    }
+
+    private static boolean isIntegral(Class<?> type) {
+        return type == int.class || type == long.class || type == short.class || type == byte.class
+                || type == Integer.class || type == Long.class || type == Short.class || type == Byte.class;
+    }
+
+    public EntityMetadata getMetadata() {
+        return metadata;
+    }
+
+    public boolean map(Object entity, ResultSet rs) throws SQLException {
+        boolean hasNonNull = false;
+
+        for (int i = 0; i < readers.length; i++) {
+            hasNonNull |= readers[i].read(rs, indexes[i], entity);
+        }
+
+        return hasNonNull;
+    }
+
+    public Object extractPrimaryKey(ResultSet rs) throws SQLException {
+        if (numericKey) {
+            long value = rs.getLong(keyIndexes[0]);
+            return value == 0 && rs.wasNull() ? null : value;
+        }
+
+        if (keyIndexes.length == 1) {
+            return rs.getObject(keyIndexes[0]);
+        }
+
+        Object[] values = new Object[keyIndexes.length];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = rs.getObject(keyIndexes[i]);
+        }
+
+        return new EntityKey(values);
+    }
+
+}
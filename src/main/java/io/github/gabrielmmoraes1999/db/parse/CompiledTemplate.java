@@ -0,0 +1,100 @@
+package io.github.gabrielmmoraes1999.db.parse;
+
+import io.github.gabrielmmoraes1999.db.annotation.Delete;
+import io.github.gabrielmmoraes1999.db.annotation.Param;
+import io.github.gabrielmmoraes1999.db.annotation.Query;
+import io.github.gabrielmmoraes1999.db.annotation.Update;
+import io.github.gabrielmmoraes1999.db.sql.SQLUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class CompiledTemplate {
+
+    private static final Map<Method, CompiledTemplate> CACHE = new ConcurrentHashMap<>();
+
+    private final String sql;
+    private final int[] argIndexes;
+
+    private CompiledTemplate(String sql, int[] argIndexes) {
+        this.sql = sql;
+        this.argIndexes = argIndexes;
+    }
+
+    public static CompiledTemplate of(Method method) {
+        CompiledTemplate template = CACHE.get(method);
+
+        if (template == null) {
+            template = compile(method, value(method));
+            CACHE.putIfAbsent(method, template);
+        }
+
+        return template;
+    }
+
+    public static CompiledTemplate compile(Method method, String template) {
+        List<String> paramOrder = new ArrayList<>();
+        String sql = SqlTemplate.parse(template, paramOrder);
+
+        Map<String, Integer> indexes = new HashMap<>();
+        Parameter[] parameters = method.getParameters();
+        for (int index = 0; index < parameters.length; index++) {
+            Param paramAnnotation = parameters[index].getAnnotation(Param.class);
+
+            if (paramAnnotation != null) {
+                indexes.put(paramAnnotation.value().toUpperCase(), index);
+            }
+        }
+
+        int[] argIndexes = new int[paramOrder.size()];
+        for (int position = 0; position < argIndexes.length; position++) {
+            Integer index = indexes.get(paramOrder.get(position));
+
+            if (index == null) {
+                throw new IllegalStateException("Parâmetro não informado: :" + paramOrder.get(position));
+            }
+
+            argIndexes[position] = index;
+        }
+
+        return new CompiledTemplate(sql, argIndexes);
+    }
+
+    public static CompiledTemplate of(String sql, int[] argIndexes) {
+        return new CompiledTemplate(sql, argIndexes);
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public void bind(PreparedStatement preparedStatement, Object[] args) throws SQLException {
+        for (int position = 0; position < argIndexes.length; position++) {
+            SQLUtils.setPreparedStatement(preparedStatement, position + 1, args[argIndexes[position]]);
+        }
+    }
+
+    private static String value(Method method) {
+        Query query = method.getAnnotation(Query.class);
+        if (query != null) {
+            return query.value();
+        }
+
+        Update update = method.getAnnotation(Update.class);
+        if (update != null) {
+            return update.value();
+        }
+
+        Delete delete = method.getAnnotation(Delete.class);
+        if (delete != null) {
+            return delete.value();
+        }
+
+        throw new IllegalArgumentException("The method does not have the annotation @Query, @Update or @Delete.");
+    }
+
+}
@@ -12,7 +12,7 @@ public final class MethodNameParser {
     private static final String DELETE_PATTERN = "delete|remove";
 
     private static final Pattern PREFIX_PATTERN = Pattern.compile(
-            "^(" + QUERY_PATTERN + "|" + COUNT_PATTERN + "|" + EXISTS_PATTERN + "|" + DELETE_PATTERN + ")(By.*)$",
+            "^(" + QUERY_PATTERN + "|" + COUNT_PATTERN + "|" + EXISTS_PATTERN + "|" + DELETE_PATTERN + ")((?:First|Top)\\d*)?(By.*)$",
             Pattern.CASE_INSENSITIVE
     );
 
@@ -40,6 +40,10 @@ public final class MethodNameParser {
 
     private MethodNameParser() {}
 
+    public static boolean isDerived(String methodName) {
+        return PREFIX_PATTERN.matcher(methodName).matches();
+    }
+
     public static ParsedQuery parse(String methodName) {
         Matcher matcher = PREFIX_PATTERN.matcher(methodName);
 
@@ -50,7 +54,20 @@ public final class MethodNameParser {
         ParsedQuery query = new ParsedQuery();
         query.type = detectQueryType(methodName);
 
-        String body = matcher.group(2).substring(2); // remove "By"
+        if (matcher.group(2) != null) {
+            if (query.type != QueryType.SELECT) {
+                throw new IllegalArgumentException("First/Top só é suportado em consultas: " + methodName);
+            }
+
+            String digits = matcher.group(2).replaceAll("\\D", "");
+            query.limit = digits.isEmpty() ? 1 : Integer.parseInt(digits);
+
+            if (query.limit < 1) {
+                throw new IllegalArgumentException("Limite inválido no método: " + methodName);
+            }
+        }
+
+        String body = matcher.group(3).substring(2); // remove "By"
 
         String[] splitOrder = body.split("OrderBy");
         String wherePart = splitOrder[0];
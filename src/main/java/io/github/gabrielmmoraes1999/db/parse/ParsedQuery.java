@@ -7,6 +7,8 @@ public class ParsedQuery {
 
     public QueryType type = QueryType.SELECT;
 
+    public int limit;
+
     public final List<List<Condition>> orGroups = new ArrayList<>();
 
     public final List<OrderBy> orderByList = new ArrayList<>();
@@ -1,140 +1,324 @@
 package io.github.gabrielmmoraes1999.db.parse;
 
-import io.github.gabrielmmoraes1999.db.annotation.*;
+import io.github.gabrielmmoraes1999.db.Dialect;
+import io.github.gabrielmmoraes1999.db.Pageable;
+import io.github.gabrielmmoraes1999.db.core.ColumnMetadata;
+import io.github.gabrielmmoraes1999.db.core.EntityMetadata;
+import io.github.gabrielmmoraes1999.db.core.JoinMetadata;
+import io.github.gabrielmmoraes1999.db.core.ProjectionMetadata;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 public class SqlRenderer {
 
-    private static final String ROOT_ALIAS = "p1";
+    private static final String ROOT_ALIAS = EntityMetadata.ROOT_ALIAS;
 
     public static <T> String toSql(ParsedQuery parsedQuery, Object param, Class<T> entityClass) {
-        if (!entityClass.isAnnotationPresent(Table.class)) {
-            throw new IllegalArgumentException("The class does not have the annotation @Table");
+        return toSql(parsedQuery, entityClass, param == null ? null : new Object[]{param});
+    }
+
+    public static <T> String toSql(ParsedQuery parsedQuery, Class<T> entityClass, Object[] args) {
+        return toSql(parsedQuery, entityClass, args, null);
+    }
+
+    public static <T> String toSql(ParsedQuery parsedQuery, Class<T> entityClass, Object[] args, ProjectionMetadata projection) {
+        return toSql(parsedQuery, entityClass, args, projection, null);
+    }
+
+    public static <T> String toSql(ParsedQuery parsedQuery, Class<T> entityClass, Object[] args, ProjectionMetadata projection, Dialect dialect) {
+        EntityMetadata metadata = EntityMetadata.of(entityClass);
+
+        if (parsedQuery != null && parsedQuery.limit > 0) {
+            if (dialect == null) {
+                throw new IllegalArgumentException("Dialect required for First/Top queries.");
+            }
+
+            return toLimitedSql(parsedQuery, metadata, args, projection, dialect);
         }
 
-        StringBuilder sql = new StringBuilder();
-        StringBuilder joins = new StringBuilder();
-        StringJoiner columns = new StringJoiner(", ");
+        QueryType type = parsedQuery == null ? QueryType.SELECT : parsedQuery.type;
+        String alias = type == QueryType.DELETE ? null : ROOT_ALIAS;
+        StringBuilder sql;
+
+        switch (type) {
+            case COUNT:
+                sql = new StringBuilder(metadata.getSql("count", () -> "SELECT COUNT(*) FROM " + metadata.getTableName() + " " + ROOT_ALIAS));
+                break;
+            case EXISTS:
+                sql = new StringBuilder(metadata.getSql("exists", () -> "SELECT 1 FROM " + metadata.getTableName() + " " + ROOT_ALIAS));
+                break;
+            case DELETE:
+                sql = new StringBuilder("DELETE FROM ").append(metadata.getTableName());
+                break;
+            default:
+                sql = new StringBuilder(projection == null
+                        ? metadata.getSql("select", () -> renderSelect(metadata, metadata.getTableName()))
+                        : metadata.getSql(Arrays.asList("projection", projection.getType()), () -> renderProjection(metadata, projection)));
+        }
 
-        int aliasCounter = 2;
+        if (parsedQuery != null) {
+            String where = renderWhere(parsedQuery, args, alias);
 
-        Table table = entityClass.getAnnotation(Table.class);
-        renderColumns(entityClass, ROOT_ALIAS, columns);
+            if (!where.isEmpty()) {
+                sql.append(" WHERE ").append(where);
+            }
 
-        for (Field field : entityClass.getDeclaredFields()) {
-            Class<?> targetEntity;
+            if (parsedQuery.type == QueryType.SELECT && !parsedQuery.orderByList.isEmpty()) {
+                sql.append(" ORDER BY ").append(renderOrder(parsedQuery));
+            }
+        }
 
-            if (field.isAnnotationPresent(OneToOne.class)) {
-                targetEntity = field.getType();
-            } else if (field.isAnnotationPresent(OneToMany.class)) {
-                targetEntity = getGenericType(field);
-            } else {
-                continue;
+        return sql.toString();
+    }
+
+    public static <T> String toPagedSql(ParsedQuery parsedQuery, Class<T> entityClass, Object[] args, Pageable pageable, Dialect dialect) {
+        EntityMetadata metadata = EntityMetadata.of(entityClass);
+        List<ColumnMetadata> primaryKeys = metadata.requirePrimaryKeys();
+        boolean ordered = parsedQuery != null && !parsedQuery.orderByList.isEmpty();
+        String where = parsedQuery == null ? "" : renderWhere(parsedQuery, args, ROOT_ALIAS);
+        StringJoiner order = new StringJoiner(", ");
+
+        if (pageable.isKeyset()) {
+            if (ordered) {
+                throw new IllegalArgumentException("Keyset paging requires ordering by the primary key.");
+            }
+
+            if (pageable.getAfter() != null) {
+                if (pageable.getAfter().size() != primaryKeys.size()) {
+                    throw new IllegalArgumentException("The amount PK invalid.");
+                }
+
+                String seek = keysetClause(primaryKeys);
+                where = where.isEmpty() ? seek : "(" + where + ") AND " + seek;
+            }
+        } else if (ordered) {
+            order.add(renderOrder(parsedQuery));
+        }
+
+        for (ColumnMetadata column : primaryKeys) {
+            order.add(ROOT_ALIAS + "." + column.getName());
+        }
+
+        if (!where.isEmpty()) {
+            where = " WHERE " + where;
+        }
+
+        String suffix = where + " ORDER BY " + order + " " + dialect.limitClause();
+
+        if (metadata.getJoins().isEmpty()) {
+            return metadata.getSql("select", () -> renderSelect(metadata, metadata.getTableName())) + suffix;
+        }
+
+        String root = "(SELECT " + ROOT_ALIAS + ".* FROM " + metadata.getTableName() + " " + ROOT_ALIAS + suffix + ")";
+        return renderSelect(metadata, root) + " ORDER BY " + order;
+    }
+
+    private static String toLimitedSql(ParsedQuery parsedQuery, EntityMetadata metadata, Object[] args, ProjectionMetadata projection, Dialect dialect) {
+        String where = renderWhere(parsedQuery, args, ROOT_ALIAS);
+        String suffix = (where.isEmpty() ? "" : " WHERE " + where)
+                + (parsedQuery.orderByList.isEmpty() ? "" : " ORDER BY " + renderOrder(parsedQuery));
+
+        if (projection != null) {
+            String select = metadata.getSql(Arrays.asList("projection", projection.getType()), () -> renderProjection(metadata, projection));
+            return dialect.limitRows(select + suffix, parsedQuery.limit);
+        }
+
+        if (metadata.getJoins().isEmpty()) {
+            String select = metadata.getSql("select", () -> renderSelect(metadata, metadata.getTableName()));
+            return dialect.limitRows(select + suffix, parsedQuery.limit);
+        }
+
+        StringJoiner order = new StringJoiner(", ");
+
+        if (!parsedQuery.orderByList.isEmpty()) {
+            order.add(renderOrder(parsedQuery));
+        }
+
+        for (ColumnMetadata column : metadata.getPrimaryKeys()) {
+            order.add(ROOT_ALIAS + "." + column.getName());
+        }
+
+        String root = "(" + dialect.limitRows("SELECT " + ROOT_ALIAS + ".* FROM " + metadata.getTableName() + " " + ROOT_ALIAS + suffix, parsedQuery.limit) + ")";
+        return renderSelect(metadata, root) + (order.length() == 0 ? "" : " ORDER BY " + order);
+    }
+
+    public static List<Object> pageArguments(Object[] args, Pageable pageable, Dialect dialect) {
+        List<Object> arguments = new ArrayList<>();
+
+        if (args != null) {
+            arguments.addAll(Arrays.asList(args));
+        }
+
+        if (pageable.getAfter() != null) {
+            List<Object> key = pageable.getAfter();
+
+            for (int i = 0; i < key.size(); i++) {
+                arguments.addAll(key.subList(0, i + 1));
+            }
+        }
+
+        arguments.addAll(Arrays.asList(dialect.limitArguments(pageable.getOffset(), pageable.getSize() + 1)));
+        return arguments;
+    }
+
+    private static String keysetClause(List<ColumnMetadata> primaryKeys) {
+        StringJoiner or = new StringJoiner(" OR ", "(", ")");
+
+        for (int i = 0; i < primaryKeys.size(); i++) {
+            StringJoiner and = new StringJoiner(" AND ");
+
+            for (int j = 0; j < i; j++) {
+                and.add(ROOT_ALIAS + "." + primaryKeys.get(j).getName() + " = ?");
             }
 
-            if (targetEntity == null || !targetEntity.isAnnotationPresent(Table.class)) {
-                continue;
+            and.add(ROOT_ALIAS + "." + primaryKeys.get(i).getName() + " > ?");
+            or.add(i == 0 ? and.toString() : "(" + and + ")");
+        }
+
+        return or.toString();
+    }
+
+    private static String renderWhere(ParsedQuery parsedQuery, Object[] args, String alias) {
+        if (parsedQuery.orGroups.isEmpty()) {
+            return "";
+        }
+
+        int argIndex = 0;
+        StringJoiner where = new StringJoiner(" OR ");
+
+        for (List<Condition> group : parsedQuery.orGroups) {
+            StringJoiner and = new StringJoiner(" AND ");
+
+            for (Condition condition : group) {
+                Object param = args != null && argIndex < args.length ? args[argIndex] : null;
+                and.add(conditionSql(condition, alias, param));
+                argIndex += argumentCount(condition.operator);
             }
 
-            String joinAlias = "p" + aliasCounter++;
-            Table joinTable = targetEntity.getAnnotation(Table.class);
+            where.add(and.toString());
+        }
+
+        return where.toString();
+    }
+
+    private static String renderOrder(ParsedQuery parsedQuery) {
+        return parsedQuery.orderByList.stream()
+                .map(o -> ROOT_ALIAS + "." + o.field.toUpperCase() + (o.desc ? " DESC" : " ASC"))
+                .collect(Collectors.joining(", "));
+    }
+
+    public static <T> String orderByRoot(ParsedQuery parsedQuery, Class<T> entityClass, String sql) {
+        EntityMetadata metadata = EntityMetadata.of(entityClass);
+
+        if (metadata.getJoins().isEmpty() || metadata.getPrimaryKeys().isEmpty() || (parsedQuery != null && parsedQuery.limit > 0)) {
+            return sql;
+        }
+
+        StringJoiner orderBy = new StringJoiner(", ");
+        for (ColumnMetadata column : metadata.getPrimaryKeys()) {
+            orderBy.add(ROOT_ALIAS + "." + column.getName());
+        }
+
+        boolean ordered = parsedQuery != null && parsedQuery.type == QueryType.SELECT && !parsedQuery.orderByList.isEmpty();
+        return sql + (ordered ? ", " : " ORDER BY ") + orderBy;
+    }
+
+    public static boolean isStatic(ParsedQuery parsedQuery) {
+        for (List<Condition> group : parsedQuery.orGroups) {
+            for (Condition condition : group) {
+                if (condition.operator == Operator.IN || condition.operator == Operator.NOT_IN) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static int argumentCount(Operator operator) {
+        switch (operator) {
+            case IS_NULL:
+            case IS_NOT_NULL:
+            case TRUE:
+            case FALSE:
+                return 0;
+            case BETWEEN:
+                return 2;
+            default:
+                return 1;
+        }
+    }
+
+    private static String renderProjection(EntityMetadata metadata, ProjectionMetadata projection) {
+        StringJoiner columns = new StringJoiner(", ");
+
+        for (ColumnMetadata column : projection.requireColumns()) {
+            columns.add(ROOT_ALIAS + "." + column.getName());
+        }
+
+        return "SELECT " + columns + " FROM " + metadata.getTableName() + " " + ROOT_ALIAS;
+    }
+
+    private static String renderSelect(EntityMetadata metadata, String from) {
+        StringBuilder sql = new StringBuilder();
+        StringBuilder joins = new StringBuilder();
+        StringJoiner columns = new StringJoiner(", ");
+
+        renderColumns(metadata, ROOT_ALIAS, null, columns);
+
+        for (JoinMetadata join : metadata.getJoins()) {
+            String joinAlias = join.getAlias();
+            EntityMetadata target = join.getTarget();
 
             joins.append(" LEFT JOIN ")
-                    .append(joinTable.name())
+                    .append(target.getTableName())
                     .append(" ")
                     .append(joinAlias)
                     .append(" ON ");
 
-            JoinColumns joinColumns = field.getAnnotation(JoinColumns.class);
-            JoinColumn joinColumn = field.getAnnotation(JoinColumn.class);
             String onClause = null;
 
-            if (joinColumns != null) {
-                onClause = Arrays.stream(joinColumns.value())
+            if (join.getJoinColumns() != null) {
+                onClause = Arrays.stream(join.getJoinColumns())
                         .map(jc ->
                                 ROOT_ALIAS + "." + jc.referencedColumnName() +
                                         " = " +
                                         joinAlias + "." + jc.name()
                         )
                         .collect(Collectors.joining(" AND "));
-            } else if (joinColumn != null) {
-                onClause = Arrays.asList(joinColumn).stream().map(jc ->
-                                ROOT_ALIAS + "." + jc.referencedColumnName() +
-                                        " = " +
-                                        joinAlias + "." + jc.name()
-                        )
-                        .collect(Collectors.joining(" AND "));
             }
 
             joins.append(onClause);
-            renderColumns(targetEntity, joinAlias, columns);
+            renderColumns(target, joinAlias, join.getLabels(), columns);
         }
 
         sql.append("SELECT ")
                 .append(columns)
                 .append(" FROM ")
-                .append(table.name())
+                .append(from)
                 .append(" ")
                 .append(ROOT_ALIAS)
                 .append(joins);
 
-        if (parsedQuery != null) {
-            if (!parsedQuery.orGroups.isEmpty()) {
-                sql.append(" WHERE ");
-                sql.append(
-                        parsedQuery.orGroups.stream()
-                                .map(group ->
-                                        group.stream()
-                                                .map(c -> conditionSql(c, ROOT_ALIAS, param))
-                                                .collect(Collectors.joining(" AND "))
-                                )
-                                .collect(Collectors.joining(" OR "))
-                );
-            }
-
-            if (parsedQuery.type == QueryType.SELECT && !parsedQuery.orderByList.isEmpty()) {
-                sql.append(" ORDER BY ");
-                sql.append(
-                        parsedQuery.orderByList.stream()
-                                .map(o -> ROOT_ALIAS + "." + o.field.toUpperCase() + (o.desc ? " DESC" : " ASC"))
-                                .collect(Collectors.joining(", "))
-                );
-            }
-        }
-
         return sql.toString();
     }
 
-    private static void renderColumns(Class<?> entity, String alias, StringJoiner columns) {
-        for (Field field : entity.getDeclaredFields()) {
-            if (!field.isAnnotationPresent(Column.class)) {
-                continue;
-            }
+    private static void renderColumns(EntityMetadata metadata, String alias, String[] labels, StringJoiner columns) {
+        List<ColumnMetadata> columnList = metadata.getColumns();
 
-            Column column = field.getAnnotation(Column.class);
-            if (Objects.equals(alias, "p1")) {
-                columns.add(alias + "." + column.name());
+        for (int i = 0; i < columnList.size(); i++) {
+            if (labels == null) {
+                columns.add(alias + "." + columnList.get(i).getName());
             } else {
-                columns.add(alias + "." + column.name() + " AS " + alias.toUpperCase() + "_" + column.name());
+                columns.add(alias + "." + columnList.get(i).getName() + " AS " + labels[i]);
             }
         }
     }
 
-    private static Class<?> getGenericType(Field field) {
-        if (!(field.getGenericType() instanceof ParameterizedType)) {
-            return null;
-        }
-        ParameterizedType type = (ParameterizedType) field.getGenericType();
-        return (Class<?>) type.getActualTypeArguments()[0];
-    }
-
     private static String conditionSql(Condition c, String alias, Object param) {
-        String field = alias + "." + c.field.toUpperCase();
+        String field = alias == null ? c.field.toUpperCase() : alias + "." + c.field.toUpperCase();
 
         if ((c.operator == Operator.IN || c.operator == Operator.NOT_IN) && param != null) {
             int size = ((Collection<?>) param).size();
@@ -143,7 +327,7 @@ public class SqlRenderer {
                     .mapToObj(i -> "?")
                     .collect(Collectors.joining(", "));
 
-            return field + " IN (" + placeholders + ")";
+            return field + (c.operator == Operator.NOT_IN ? " NOT IN (" : " IN (") + placeholders + ")";
         }
 
         switch (c.operator) {
@@ -39,7 +39,7 @@ public final class SqlTemplate {
         return binds;
     }
 
-    private static String parse(String sql, List<String> order) {
+    static String parse(String sql, List<String> order) {
 
         StringBuilder out = new StringBuilder();
         StringBuilder buffer = new StringBuilder();
@@ -0,0 +1,142 @@
+package io.github.gabrielmmoraes1999.db.sql;
+
+import io.github.gabrielmmoraes1999.db.DBConfig;
+import io.github.gabrielmmoraes1999.db.core.ColumnMetadata;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class BatchExecutor implements AutoCloseable {
+
+    private final Connection connection;
+    private final int batchSize;
+    private final Map<String, Batch> batches = new LinkedHashMap<>();
+    private int result;
+
+    public BatchExecutor(Connection connection) {
+        this(connection, DBConfig.getBatchSize());
+    }
+
+    public BatchExecutor(Connection connection, int batchSize) {
+        this.connection = connection;
+        this.batchSize = batchSize;
+    }
+
+    public void add(String sql, List<ColumnMetadata> columns, Object entity) throws SQLException {
+        add(sql, columns, entity, Collections.emptyList());
+    }
+
+    public void add(String sql, List<ColumnMetadata> columns, Object entity, List<ColumnMetadata> generated) throws SQLException {
+        Batch batch = batches.get(sql);
+
+        if (batch == null) {
+            if (generated.isEmpty()) {
+                batch = new Batch(connection.prepareStatement(sql), generated);
+            } else {
+                batch = new Batch(connection.prepareStatement(sql, SQLUtils.columnNames(generated)), generated);
+            }
+
+            batches.put(sql, batch);
+        }
+
+        SQLUtils.bind(batch.preparedStatement, columns, entity);
+        batch.preparedStatement.addBatch();
+
+        if (!generated.isEmpty()) {
+            batch.entities.add(entity);
+        }
+
+        if (++batch.pending >= batchSize) {
+            result = result + execute(batch);
+        }
+    }
+
+    public int flush() throws SQLException {
+        for (Batch batch : batches.values()) {
+            if (batch.pending > 0) {
+                result = result + execute(batch);
+            }
+        }
+
+        int total = result;
+        result = 0;
+        return total;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        SQLException exception = null;
+
+        for (Batch batch : batches.values()) {
+            try {
+                batch.preparedStatement.close();
+            } catch (SQLException ex) {
+                exception = ex;
+            }
+        }
+
+        batches.clear();
+
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    public static int count(int[] counts) {
+        int result = 0;
+
+        for (int count : counts) {
+            if (count > 0) {
+                result = result + count;
+            } else if (count == Statement.SUCCESS_NO_INFO) {
+                result++;
+            }
+        }
+
+        return result;
+    }
+
+    private static int execute(Batch batch) throws SQLException {
+        batch.pending = 0;
+        int result = count(batch.preparedStatement.executeBatch());
+
+        if (!batch.generated.isEmpty()) {
+            try (ResultSet resultSet = batch.preparedStatement.getGeneratedKeys()) {
+                for (Object entity : batch.entities) {
+                    if (!resultSet.next()) {
+                        break;
+                    }
+
+                    SQLUtils.readGeneratedKeys(resultSet, batch.generated, entity);
+                }
+            }
+
+            batch.entities.clear();
+        }
+
+        return result;
+    }
+
+    private static class Batch {
+
+        private final PreparedStatement preparedStatement;
+        private final List<ColumnMetadata> generated;
+        private final List<Object> entities = new ArrayList<>();
+        private int pending;
+
+        private Batch(PreparedStatement preparedStatement, List<ColumnMetadata> generated) {
+            this.preparedStatement = preparedStatement;
+            this.generated = generated;
+        }
+
+    }
+
+}
@@ -0,0 +1,144 @@
+package io.github.gabrielmmoraes1999.db.sql;
+
+import io.github.gabrielmmoraes1999.db.Dialect;
+import io.github.gabrielmmoraes1999.db.LazyLoader;
+import io.github.gabrielmmoraes1999.db.core.ColumnMetadata;
+import io.github.gabrielmmoraes1999.db.core.EntityBuilder;
+import io.github.gabrielmmoraes1999.db.core.EntityKey;
+import io.github.gabrielmmoraes1999.db.core.EntityMetadata;
+import io.github.gabrielmmoraes1999.db.core.JoinMetadata;
+import io.github.gabrielmmoraes1999.db.core.LazyList;
+import io.github.gabrielmmoraes1999.db.parse.SqlRenderer;
+
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class BatchFetcher {
+
+    public static void fetch(Class<?> entityClass, List<?> roots, Connection connection) throws SQLException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
+        EntityMetadata metadata = EntityMetadata.of(entityClass);
+
+        if (roots.isEmpty()) {
+            return;
+        }
+
+        for (JoinMetadata join : metadata.getBatchJoins()) {
+            fetch(metadata, join, roots, connection);
+        }
+
+        for (JoinMetadata join : metadata.getLazyJoins()) {
+            if (!join.isCollection()) {
+                continue;
+            }
+
+            for (Object root : roots) {
+                join.set(root, new LazyList<>(connection, () -> LazyLoader.initialize(root, join.getField().getName())));
+            }
+        }
+    }
+
+    public static boolean hasAssociations(Class<?> entityClass) {
+        EntityMetadata metadata = EntityMetadata.of(entityClass);
+        return !metadata.getBatchJoins().isEmpty() || !metadata.getLazyJoins().isEmpty();
+    }
+
+    public static void fetch(EntityMetadata metadata, JoinMetadata join, List<?> roots, Connection connection) throws SQLException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
+        ColumnMetadata[] parentColumns = join.getParentColumns(metadata);
+        List<ColumnMetadata> childColumns = Arrays.asList(join.getChildColumns());
+        Map<EntityKey, List<Object>> parents = new LinkedHashMap<>();
+        Map<EntityKey, List<Object>> keys = new LinkedHashMap<>();
+
+        for (Object root : roots) {
+            EntityKey entityKey = EntityKey.of(Arrays.asList(parentColumns), root);
+
+            if (entityKey.hasNull()) {
+                continue;
+            }
+
+            parents.computeIfAbsent(entityKey, k -> new ArrayList<>()).add(root);
+
+            if (!keys.containsKey(entityKey)) {
+                List<Object> key = new ArrayList<>(parentColumns.length);
+
+                for (ColumnMetadata column : parentColumns) {
+                    key.add(column.get(root));
+                }
+
+                keys.put(entityKey, key);
+            }
+        }
+
+        Class<?> targetClass = join.getTargetClass();
+        List<List<Object>> keyList = new ArrayList<>(keys.values());
+        Map<Object, Object> children = new LinkedHashMap<>();
+        Map<Object, List<Object>> loaded = new IdentityHashMap<>();
+        Dialect dialect = Dialect.of(connection);
+        int chunkSize = SQLUtils.keyChunkSize(childColumns, dialect);
+
+        for (int start = 0; start < keyList.size(); start += chunkSize) {
+            List<List<Object>> chunk = keyList.subList(start, Math.min(start + chunkSize, keyList.size()));
+            int size = SQLUtils.paddedSize(chunk.size(), chunkSize);
+
+            String sql = metadata.getSql(Arrays.asList("batchFetch", join, size, dialect.supportsRowValueIn()), () ->
+                    String.format("%s WHERE %s", SqlRenderer.toSql(null, null, targetClass), SQLUtils.keyInClause(childColumns, "p1.", size, dialect))
+            );
+
+            try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                SQLUtils.bindKeys(preparedStatement, chunk, size);
+                buildInto(targetClass, preparedStatement, children);
+            }
+        }
+
+        List<Object> childList = new ArrayList<>(children.values());
+        fetch(targetClass, childList, connection);
+
+        for (Object child : childList) {
+            List<Object> owners = parents.get(EntityKey.of(childColumns, child));
+
+            if (owners == null) {
+                continue;
+            }
+
+            for (Object owner : owners) {
+                loaded.computeIfAbsent(owner, k -> new ArrayList<>()).add(child);
+            }
+        }
+
+        for (Object root : roots) {
+            assign(join, root, loaded.getOrDefault(root, Collections.emptyList()));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void assign(JoinMetadata join, Object owner, List<Object> values) {
+        Object current = join.get(owner);
+
+        if (!join.isCollection()) {
+            join.set(owner, values.isEmpty() ? null : values.get(0));
+        } else if (current instanceof LazyList) {
+            ((LazyList<Object>) current).initialize(values);
+        } else if (!values.isEmpty()) {
+            if (current == null) {
+                join.set(owner, new ArrayList<>(values));
+            } else {
+                ((Collection<Object>) current).addAll(values);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void buildInto(Class<T> targetClass, PreparedStatement preparedStatement, Map<Object, Object> children) throws SQLException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
+        EntityBuilder.build(targetClass, preparedStatement, (Map<Object, T>) children);
+    }
+
+}
@@ -1,8 +1,16 @@
 package io.github.gabrielmmoraes1999.db.sql;
 
-import io.github.gabrielmmoraes1999.db.annotation.*;
+import io.github.gabrielmmoraes1999.db.ChildSyncMode;
+import io.github.gabrielmmoraes1999.db.DBConfig;
+import io.github.gabrielmmoraes1999.db.Dialect;
+import io.github.gabrielmmoraes1999.db.InsertMode;
+import io.github.gabrielmmoraes1999.db.annotation.JoinColumn;
+import io.github.gabrielmmoraes1999.db.core.ColumnMetadata;
+import io.github.gabrielmmoraes1999.db.core.EntityKey;
+import io.github.gabrielmmoraes1999.db.core.EntityMetadata;
+import io.github.gabrielmmoraes1999.db.core.EntitySnapshots;
+import io.github.gabrielmmoraes1999.db.core.JoinMetadata;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.sql.*;
 import java.util.*;
@@ -10,50 +18,56 @@ import java.util.*;
 public class DML {
 
     public static int insert(Object entity, Connection connection) throws SQLException, IllegalAccessException {
-        Class<?> entityClass = entity.getClass();
+        EntityMetadata metadata = EntityMetadata.of(entity.getClass());
+        List<ColumnMetadata> fields = insertColumns(metadata, entity);
+        List<ColumnMetadata> generated = generatedColumns(metadata, fields);
 
-        if (!entityClass.isAnnotationPresent(Table.class)) {
-            throw new IllegalArgumentException("The class does not have the annotation @Table");
+        if (generated.isEmpty()) {
+            return SQLUtils.preparedStatement(insertSql(metadata, fields), entity, fields, connection);
         }
 
-        Table table = entityClass.getAnnotation(Table.class);
-        String tableName = table.name();
+        return SQLUtils.insertReturning(insertSql(metadata, fields), entity, fields, generated, connection);
+    }
+
+    public static int insertAll(Collection<?> entities, Connection connection) throws SQLException {
+        if (DBConfig.getInsertMode() == InsertMode.MULTI_VALUES) {
+            return insertValues(entities, connection);
+        }
 
-        StringJoiner columns = new StringJoiner(", ");
-        StringJoiner values = new StringJoiner(", ");
-        List<Field> fields = new ArrayList<>();
+        int result;
 
-        for (Field field : entityClass.getDeclaredFields()) {
-            if (!field.isAnnotationPresent(Column.class)) {
-                continue;
+        try (BatchExecutor batch = new BatchExecutor(connection)) {
+            for (Object entity : entities) {
+                addInsert(batch, entity);
             }
 
-            Column column = field.getAnnotation(Column.class);
-            field.setAccessible(true);
+            result = batch.flush();
 
-            if (Objects.nonNull(field.get(entity))) {
-                columns.add(column.name());
-                values.add("?");
-                fields.add(field);
+            for (Object entity : entities) {
+                for (JoinMetadata join : EntityMetadata.of(entity.getClass()).getAssociations()) {
+                    if (join.isJoinColumnsPresent() && join.isOneToMany() && join.isLoaded(entity)) {
+                        addChildren(batch, entity, join);
+                    }
+                }
             }
+
+            result = result + batch.flush();
         }
 
-        String sql = String.format("INSERT INTO %s (%s) VALUES (%s)", tableName, columns, values);
-        return SQLUtils.preparedStatement(sql, entity, fields, connection);
+        return result;
     }
 
     public static int insertCascade(Object entity, Connection connection) throws SQLException, IllegalAccessException {
-        Class<?> clazz = entity.getClass();
+        EntityMetadata metadata = EntityMetadata.of(entity.getClass());
         int result = insert(entity, connection);
 
-        for (Field field : clazz.getDeclaredFields()) {
-            if (!field.isAnnotationPresent(JoinColumns.class)) {
+        for (JoinMetadata join : metadata.getAssociations()) {
+            if (!join.isJoinColumnsPresent() || !join.isLoaded(entity)) {
                 continue;
             }
 
-            if (field.isAnnotationPresent(OneToMany.class)) {
-                field.setAccessible(true);
-                Object value = field.get(entity);
+            if (join.isOneToMany()) {
+                Object value = join.get(entity);
 
                 if (value == null) {
                     continue;
@@ -64,7 +78,7 @@ public class DML {
                 }
 
                 for (Object child : (Collection<?>) value) {
-                    SQLUtils.copyJoinColumns(entity, child, field);
+                    SQLUtils.copyJoinColumns(entity, child, join);
                     result = result + insert(child, connection);
                 }
             }
@@ -74,83 +88,345 @@ public class DML {
     }
 
     public static int update(Object entity, Connection connection) throws SQLException, IllegalAccessException {
-        Class<?> entityClass = entity.getClass();
+        return update(entity, false, connection);
+    }
 
-        if (!entityClass.isAnnotationPresent(Table.class)) {
-            throw new IllegalArgumentException("The class does not have the annotation @Table");
+    public static int update(Object entity, boolean force, Connection connection) throws SQLException, IllegalAccessException {
+        EntityMetadata metadata = EntityMetadata.of(entity.getClass());
+
+        for (ColumnMetadata column : metadata.requirePrimaryKeys()) {
+            if (Objects.isNull(column.get(entity))) {
+                throw new IllegalArgumentException("Valor do @PrimaryKey é nulo");
+            }
         }
 
-        Table table = entityClass.getAnnotation(Table.class);
-        String tableName = table.name();
+        BitSet changed = force ? null : changedColumns(metadata, entity);
 
-        StringJoiner setClause = new StringJoiner(", ");
-        StringJoiner whereClause = new StringJoiner(" AND ");
-        List<Field> updateFields = new ArrayList<>();
-        List<Field> primaryKeyFields = new ArrayList<>();
-        List<Field> fields = new ArrayList<>();
+        if (changed != null && changed.isEmpty()) {
+            return 1;
+        }
 
-        for (Field field : entityClass.getDeclaredFields()) {
-            field.setAccessible(true);
+        int result = SQLUtils.preparedStatement(updateSql(metadata, changed), entity, updateColumns(metadata, changed), connection);
 
-            if (!field.isAnnotationPresent(Column.class)) {
-                continue;
+        if (result > 0 && DBConfig.isDirtyTracking()) {
+            EntitySnapshots.take(metadata, entity);
+        }
+
+        return result;
+    }
+
+    public static boolean isUnchanged(Object entity) {
+        BitSet changed = changedColumns(EntityMetadata.of(entity.getClass()), entity);
+        return changed != null && changed.isEmpty();
+    }
+
+    public static int insertValues(Collection<?> entities, Connection connection) throws SQLException {
+        int result = insertRows(entities, connection);
+        List<Object> children = new ArrayList<>();
+
+        for (Object entity : entities) {
+            for (JoinMetadata join : EntityMetadata.of(entity.getClass()).getAssociations()) {
+                if (!join.isJoinColumnsPresent() || !join.isOneToMany() || !join.isLoaded(entity)) {
+                    continue;
+                }
+
+                Object value = join.get(entity);
+
+                if (!(value instanceof Collection)) {
+                    continue;
+                }
+
+                for (Object child : (Collection<?>) value) {
+                    SQLUtils.copyJoinColumns(entity, child, join);
+                    children.add(child);
+                }
             }
+        }
+
+        return result + insertRows(children, connection);
+    }
+
+    public static int upsertCascade(Object entity, Dialect dialect, Connection connection) throws SQLException {
+        EntityMetadata metadata = EntityMetadata.of(entity.getClass());
 
-            Column column = field.getAnnotation(Column.class);
-            if (field.isAnnotationPresent(PrimaryKey.class)) {
-                whereClause.add(String.format("%s = ?", column.name()));
-                primaryKeyFields.add(field);
-            } else {
-                setClause.add(String.format("%s = ?", column.name()));
-                updateFields.add(field);
+        for (ColumnMetadata column : metadata.requirePrimaryKeys()) {
+            if (Objects.isNull(column.get(entity))) {
+                throw new IllegalArgumentException("Valor do @PrimaryKey é nulo");
             }
         }
 
-        if (primaryKeyFields.isEmpty()) {
-            throw new IllegalArgumentException("Classe sem @PrimaryKey");
+        List<ColumnMetadata> fields = insertColumns(metadata, entity);
+        String sql = metadata.getSql(Arrays.asList("upsert", dialect, fields), () -> dialect.upsertSql(metadata, fields));
+        int result = SQLUtils.preparedStatement(sql, entity, dialect.upsertParameters(metadata, fields), connection);
+
+        if (DBConfig.isDirtyTracking()) {
+            EntitySnapshots.take(metadata, entity);
         }
 
-        for (Field field : primaryKeyFields) {
-            field.setAccessible(true);
+        if (!metadata.getAssociations().isEmpty()) {
+            result = result + updateChildrenAll(Collections.singletonList(entity), connection);
+        }
 
-            if (Objects.isNull(field.get(entity))) {
-                throw new IllegalArgumentException("Valor do @PrimaryKey é nulo");
+        return result;
+    }
+
+    public static int[] updateAll(List<?> entities, Connection connection) throws SQLException {
+        int[] result = new int[entities.size()];
+        Map<String, List<ColumnMetadata>> fieldsBySql = new HashMap<>();
+        Map<String, List<Integer>> indexesBySql = new LinkedHashMap<>();
+
+        for (int index = 0; index < entities.size(); index++) {
+            Object entity = entities.get(index);
+            EntityMetadata metadata = EntityMetadata.of(entity.getClass());
+
+            for (ColumnMetadata column : metadata.requirePrimaryKeys()) {
+                if (Objects.isNull(column.get(entity))) {
+                    throw new IllegalArgumentException("Valor do @PrimaryKey é nulo");
+                }
+            }
+
+            BitSet changed = changedColumns(metadata, entity);
+
+            if (changed != null && changed.isEmpty()) {
+                result[index] = Statement.SUCCESS_NO_INFO;
+                continue;
             }
+
+            String sql = updateSql(metadata, changed);
+
+            if (!fieldsBySql.containsKey(sql)) {
+                fieldsBySql.put(sql, updateColumns(metadata, changed));
+                indexesBySql.put(sql, new ArrayList<>());
+            }
+
+            indexesBySql.get(sql).add(index);
         }
 
-        fields.addAll(updateFields);
-        fields.addAll(primaryKeyFields);
-        String sql = String.format("UPDATE %s SET %s WHERE %s", tableName, setClause, whereClause);
-        return SQLUtils.preparedStatement(sql, entity, fields, connection);
+        int batchSize = DBConfig.getBatchSize();
+
+        for (Map.Entry<String, List<Integer>> entry : indexesBySql.entrySet()) {
+            List<ColumnMetadata> fields = fieldsBySql.get(entry.getKey());
+            List<Integer> indexes = entry.getValue();
+
+            try (PreparedStatement preparedStatement = connection.prepareStatement(entry.getKey())) {
+                for (int start = 0; start < indexes.size(); start += batchSize) {
+                    List<Integer> chunk = indexes.subList(start, Math.min(start + batchSize, indexes.size()));
+
+                    for (int index : chunk) {
+                        SQLUtils.bind(preparedStatement, fields, entities.get(index));
+                        preparedStatement.addBatch();
+                    }
+
+                    int[] counts = preparedStatement.executeBatch();
+
+                    for (int i = 0; i < chunk.size(); i++) {
+                        result[chunk.get(i)] = counts[i];
+                    }
+                }
+            }
+        }
+
+        if (DBConfig.isDirtyTracking()) {
+            for (List<Integer> indexes : indexesBySql.values()) {
+                for (int index : indexes) {
+                    if (result[index] > 0) {
+                        Object entity = entities.get(index);
+                        EntitySnapshots.take(EntityMetadata.of(entity.getClass()), entity);
+                    }
+                }
+            }
+        }
+
+        return result;
     }
 
     public static int updateCascade(Object entity, Connection connection) throws SQLException, IllegalAccessException {
         int result = update(entity, connection);
 
-        if (result > 0) {
-            Class<?> entityClass = entity.getClass();
+        if (result > 0 && !EntityMetadata.of(entity.getClass()).getAssociations().isEmpty()) {
+            result = result + updateChildrenAll(Collections.singletonList(entity), connection);
+        }
+
+        return result;
+    }
 
-            for (Field field : entityClass.getDeclaredFields()) {
-                if (!field.isAnnotationPresent(OneToMany.class)) {
-                    continue;
+    public static int updateChildrenAll(List<?> entities, Connection connection) throws SQLException {
+        boolean merge = DBConfig.getChildSyncMode() == ChildSyncMode.MERGE;
+        Map<JoinMetadata, List<Object>> merges = new LinkedHashMap<>();
+        Map<Object, BitSet> updates = new IdentityHashMap<>();
+        List<Object> inserts = new ArrayList<>();
+        int result;
+
+        try (BatchExecutor batch = new BatchExecutor(connection)) {
+            for (Object entity : entities) {
+                EntityMetadata metadata = EntityMetadata.of(entity.getClass());
+
+                for (JoinMetadata join : metadata.getAssociations()) {
+                    if (!join.isOneToMany() || !join.isLoaded(entity)) {
+                        continue;
+                    }
+
+                    if (merge && join.isJoinColumnsPresent() && !join.getTarget().getPrimaryKeys().isEmpty()) {
+                        merges.computeIfAbsent(join, k -> new ArrayList<>()).add(entity);
+                        continue;
+                    }
+
+                    if (join.isJoinColumnsPresent()) {
+                        batch.add(deleteChildrenSql(metadata, join), Arrays.asList(join.getParentColumns(metadata)), entity);
+                    }
+
+                    Object value = join.get(entity);
+
+                    if (value instanceof Collection) {
+                        for (Object child : (Collection<?>) value) {
+                            SQLUtils.copyJoinColumns(entity, child, join);
+                            inserts.add(child);
+                        }
+                    }
                 }
+            }
 
-                field.setAccessible(true);
-                Object value = field.get(entity);
+            for (Map.Entry<JoinMetadata, List<Object>> group : merges.entrySet()) {
+                mergeChildren(batch, group.getKey(), group.getValue(), updates, inserts, connection);
+            }
 
-                result = result + DML.deleteChildren(entity, field, connection);
+            result = batch.flush();
 
-                if (value == null) {
-                    continue;
+            for (Map.Entry<Object, BitSet> update : updates.entrySet()) {
+                EntityMetadata target = EntityMetadata.of(update.getKey().getClass());
+                batch.add(updateSql(target, update.getValue()), updateColumns(target, update.getValue()), update.getKey());
+            }
+
+            result = result + batch.flush();
+
+            for (Object child : inserts) {
+                addInsert(batch, child);
+            }
+
+            result = result + batch.flush();
+        }
+
+        return result;
+    }
+
+    public static <T, ID> int deleteById(ID id, Class<T> entityClass, Connection connection) throws SQLException, IllegalAccessException, NoSuchMethodException, InvocationTargetException, InstantiationException {
+        EntityMetadata metadata = EntityMetadata.of(entityClass);
+        List<ColumnMetadata> fields = metadata.requirePrimaryKeys();
+        List<Object> keys;
+
+        if (id instanceof List) {
+            @SuppressWarnings("unchecked")
+            List<Object> list = (List<Object>) id;
+
+            if (list.size() != fields.size()) {
+                throw new IllegalArgumentException("The amount PK invalid.");
+            }
+
+            keys = list;
+        } else {
+            keys = Collections.nCopies(fields.size(), id);
+        }
+
+        return SQLUtils.preparedStatement(deleteByIdSql(metadata), fields, keys, connection);
+    }
+
+    public static <T, ID> int deleteAllById(Collection<ID> ids, Class<T> entityClass, Connection connection) throws SQLException {
+        EntityMetadata metadata = EntityMetadata.of(entityClass);
+        List<ColumnMetadata> fields = metadata.requirePrimaryKeys();
+        List<List<Object>> keys = SQLUtils.keysOf(fields, ids);
+        Dialect dialect = Dialect.of(connection);
+        int chunkSize = SQLUtils.keyChunkSize(fields, dialect);
+        int result = 0;
+
+        for (int start = 0; start < keys.size(); start += chunkSize) {
+            List<List<Object>> chunk = keys.subList(start, Math.min(start + chunkSize, keys.size()));
+            int size = SQLUtils.paddedSize(chunk.size(), chunkSize);
+
+            String sql = metadata.getSql(Arrays.asList("deleteAllById", size, dialect.supportsRowValueIn()), () ->
+                    String.format("DELETE FROM %s WHERE %s", metadata.getTableName(), SQLUtils.keyInClause(fields, "", size, dialect))
+            );
+
+            try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                SQLUtils.bindKeys(preparedStatement, chunk, size);
+                result += preparedStatement.executeUpdate();
+            }
+        }
+
+        return result;
+    }
+
+    public static int delete(String sql, Object[] args, Connection connection) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            SQLUtils.setArguments(preparedStatement, args);
+            return preparedStatement.executeUpdate();
+        }
+    }
+
+    private static int insertRows(Collection<?> entities, Connection connection) throws SQLException {
+        Map<List<ColumnMetadata>, List<Object>> shapes = new LinkedHashMap<>();
+
+        for (Object entity : entities) {
+            List<ColumnMetadata> fields = insertColumns(EntityMetadata.of(entity.getClass()), entity);
+            shapes.computeIfAbsent(fields, key -> new ArrayList<>()).add(entity);
+        }
+
+        int result = 0;
+
+        for (Map.Entry<List<ColumnMetadata>, List<Object>> shape : shapes.entrySet()) {
+            List<ColumnMetadata> fields = shape.getKey();
+            List<Object> rows = shape.getValue();
+            EntityMetadata metadata = EntityMetadata.of(rows.get(0).getClass());
+            int rowsPerStatement = Math.max(1, Math.min(DBConfig.getBatchSize(), DBConfig.getMaxBindParameters() / Math.max(1, fields.size())));
+            int fullRows = rows.size() - rows.size() % rowsPerStatement;
+
+            List<ColumnMetadata> generated = generatedColumns(metadata, fields);
+
+            if (fullRows > 0) {
+                try (PreparedStatement preparedStatement = prepareInsert(insertSql(metadata, fields, rowsPerStatement), generated, connection)) {
+                    for (int start = 0; start < fullRows; start += rowsPerStatement) {
+                        result = result + executeRows(preparedStatement, fields, generated, rows.subList(start, start + rowsPerStatement));
+                    }
                 }
+            }
 
-                if (!(value instanceof Collection)) {
-                    continue;
+            if (fullRows < rows.size()) {
+                List<Object> remainder = rows.subList(fullRows, rows.size());
+
+                try (PreparedStatement preparedStatement = prepareInsert(insertSql(metadata, fields, remainder.size()), generated, connection)) {
+                    result = result + executeRows(preparedStatement, fields, generated, remainder);
                 }
+            }
+        }
 
-                for (Object child : (Collection<?>) value) {
-                    SQLUtils.copyJoinColumns(entity, child, field);
-                    result = result + insert(child, connection);
+        return result;
+    }
+
+    private static PreparedStatement prepareInsert(String sql, List<ColumnMetadata> generated, Connection connection) throws SQLException {
+        if (generated.isEmpty()) {
+            return connection.prepareStatement(sql);
+        }
+
+        return connection.prepareStatement(sql, SQLUtils.columnNames(generated));
+    }
+
+    private static int executeRows(PreparedStatement preparedStatement, List<ColumnMetadata> fields, List<ColumnMetadata> generated, List<Object> rows) throws SQLException {
+        int position = 1;
+
+        for (Object row : rows) {
+            SQLUtils.bind(preparedStatement, position, fields, row);
+            position = position + fields.size();
+        }
+
+        int result = preparedStatement.executeUpdate();
+
+        if (!generated.isEmpty()) {
+            try (ResultSet resultSet = preparedStatement.getGeneratedKeys()) {
+                for (Object row : rows) {
+                    if (!resultSet.next()) {
+                        break;
+                    }
+
+                    SQLUtils.readGeneratedKeys(resultSet, generated, row);
                 }
             }
         }
@@ -158,92 +434,271 @@ public class DML {
         return result;
     }
 
-    public static <T, ID> int deleteById(ID id, Class<T> entityClass, Connection connection) throws SQLException, IllegalAccessException, NoSuchMethodException, InvocationTargetException, InstantiationException {
-        if (!entityClass.isAnnotationPresent(Table.class)) {
-            throw new IllegalArgumentException("The class does not have the annotation @Table");
+    private static void mergeChildren(BatchExecutor batch, JoinMetadata join, List<Object> parents, Map<Object, BitSet> updates, List<Object> inserts, Connection connection) throws SQLException {
+        EntityMetadata metadata = EntityMetadata.of(parents.get(0).getClass());
+        EntityMetadata target = join.getTarget();
+        List<ColumnMetadata> parentColumns = Arrays.asList(join.getParentColumns(metadata));
+        List<ColumnMetadata> childColumns = Arrays.asList(join.getChildColumns());
+        Map<EntityKey, List<Object>> keys = new LinkedHashMap<>();
+        Map<EntityKey, Map<EntityKey, Object>> current = new HashMap<>();
+
+        for (Object parent : parents) {
+            EntityKey key = EntityKey.of(parentColumns, parent);
+
+            if (!key.hasNull()) {
+                List<Object> values = new ArrayList<>(parentColumns.size());
+
+                for (ColumnMetadata column : parentColumns) {
+                    values.add(column.get(parent));
+                }
+
+                keys.putIfAbsent(key, values);
+            }
         }
 
-        T entity = entityClass.getDeclaredConstructor().newInstance();
-        Table table = entityClass.getAnnotation(Table.class);
-        String tableName = table.name();
+        List<List<Object>> keyList = new ArrayList<>(keys.values());
+        List<ColumnMetadata> columns = target.getColumns();
+        Dialect dialect = Dialect.of(connection);
+        int chunkSize = SQLUtils.keyChunkSize(childColumns, dialect);
 
-        StringJoiner whereClause = new StringJoiner(" AND ");
-        List<Field> fields = new ArrayList<>();
+        for (int start = 0; start < keyList.size(); start += chunkSize) {
+            List<List<Object>> chunk = keyList.subList(start, Math.min(start + chunkSize, keyList.size()));
+            int size = SQLUtils.paddedSize(chunk.size(), chunkSize);
+
+            String sql = metadata.getSql(Arrays.asList("children", join, size, dialect.supportsRowValueIn()), () -> {
+                StringJoiner names = new StringJoiner(", ");
+                for (ColumnMetadata column : columns) {
+                    names.add(column.getName());
+                }
 
-        for (Field field : entityClass.getDeclaredFields()) {
-            field.setAccessible(true);
+                return String.format("SELECT %s FROM %s WHERE %s", names, target.getTableName(), SQLUtils.keyInClause(childColumns, "", size, dialect));
+            });
 
-            if (!field.isAnnotationPresent(Column.class)) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                SQLUtils.bindKeys(preparedStatement, chunk, size);
+
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        Object child;
+
+                        try {
+                            child = target.newInstance();
+                        } catch (ReflectiveOperationException ex) {
+                            throw new IllegalStateException(ex);
+                        }
+
+                        for (int i = 0; i < columns.size(); i++) {
+                            columns.get(i).getReader().read(resultSet, i + 1, child);
+                        }
+
+                        current.computeIfAbsent(EntityKey.of(childColumns, child), k -> new HashMap<>())
+                                .put(EntityKey.of(target.getPrimaryKeys(), child), child);
+                    }
+                }
+            }
+        }
+
+        Set<EntityKey> merged = new HashSet<>();
+
+        for (Object parent : parents) {
+            EntityKey key = EntityKey.of(parentColumns, parent);
+
+            if (!key.hasNull() && !merged.add(key)) {
                 continue;
             }
 
-            Column column = field.getAnnotation(Column.class);
-            if (field.isAnnotationPresent(PrimaryKey.class)) {
-                whereClause.add(String.format("%s = ?", column.name()));
-                fields.add(field);
+            Map<EntityKey, Object> existing = current.getOrDefault(key, Collections.emptyMap());
+            Object value = join.get(parent);
+
+            if (value instanceof Collection) {
+                for (Object child : (Collection<?>) value) {
+                    SQLUtils.copyJoinColumns(parent, child, join);
+                    Object row = existing.isEmpty() ? null : existing.remove(EntityKey.of(target.getPrimaryKeys(), child));
+
+                    if (row == null) {
+                        inserts.add(child);
+                        continue;
+                    }
+
+                    BitSet changed = changedColumns(target, row, child);
+
+                    if (!changed.isEmpty()) {
+                        updates.put(child, changed);
+                    }
+                }
+            }
+
+            for (Object removed : existing.values()) {
+                batch.add(deleteByIdSql(target), target.getPrimaryKeys(), removed);
+            }
+        }
+    }
+
+    private static BitSet changedColumns(EntityMetadata metadata, Object row, Object entity) {
+        List<ColumnMetadata> columns = metadata.getColumns();
+        BitSet changed = new BitSet(columns.size());
+
+        for (int i = 0; i < columns.size(); i++) {
+            if (!columns.get(i).isPrimaryKey() && !Objects.equals(columns.get(i).get(row), columns.get(i).get(entity))) {
+                changed.set(i);
             }
         }
 
-        if (fields.isEmpty()) {
-            throw new IllegalArgumentException("Classe sem @PrimaryKey");
+        return changed;
+    }
+
+    private static List<ColumnMetadata> updateColumns(EntityMetadata metadata) {
+        List<ColumnMetadata> fields = new ArrayList<>(metadata.getNonPrimaryKeys());
+        fields.addAll(metadata.requirePrimaryKeys());
+        return fields;
+    }
+
+    private static void addInsert(BatchExecutor batch, Object entity) throws SQLException {
+        EntityMetadata metadata = EntityMetadata.of(entity.getClass());
+        List<ColumnMetadata> fields = insertColumns(metadata, entity);
+        batch.add(insertSql(metadata, fields), fields, entity, generatedColumns(metadata, fields));
+    }
+
+    private static void addChildren(BatchExecutor batch, Object entity, JoinMetadata join) throws SQLException {
+        Object value = join.get(entity);
+
+        if (!(value instanceof Collection)) {
+            return;
         }
 
-        if (id instanceof List) {
-            @SuppressWarnings("unchecked")
-            List<Object> keys = (List<Object>) id;
+        for (Object child : (Collection<?>) value) {
+            SQLUtils.copyJoinColumns(entity, child, join);
+            addInsert(batch, child);
+        }
+    }
 
-            if (keys.size() != fields.size()) {
-                throw new IllegalArgumentException("The amount PK invalid.");
+    private static List<ColumnMetadata> insertColumns(EntityMetadata metadata, Object entity) {
+        List<ColumnMetadata> fields = new ArrayList<>();
+
+        for (ColumnMetadata column : metadata.getColumns()) {
+            if (column.isGenerated() ? !column.isMissing(entity) : Objects.nonNull(column.get(entity))) {
+                fields.add(column);
             }
+        }
+
+        return fields;
+    }
+
+    private static List<ColumnMetadata> generatedColumns(EntityMetadata metadata, List<ColumnMetadata> fields) {
+        if (metadata.getGeneratedColumns().isEmpty()) {
+            return Collections.emptyList();
+        }
 
-            int index = 0;
-            for (Field field : fields) {
-                field.setAccessible(true);
-                field.set(entity, keys.get(index));
-                index++;
+        List<ColumnMetadata> generated = new ArrayList<>();
+
+        for (ColumnMetadata column : metadata.getGeneratedColumns()) {
+            if (!fields.contains(column)) {
+                generated.add(column);
             }
-        } else {
-            for (Field field : fields) {
-                field.setAccessible(true);
-                field.set(entity, id);
+        }
+
+        return generated;
+    }
+
+    private static String insertSql(EntityMetadata metadata, List<ColumnMetadata> fields) {
+        return insertSql(metadata, fields, 1);
+    }
+
+    private static String insertSql(EntityMetadata metadata, List<ColumnMetadata> fields, int rows) {
+        return metadata.getSql(Arrays.asList("insert", fields, rows), () -> {
+            StringJoiner columns = new StringJoiner(", ");
+            StringJoiner values = new StringJoiner(", ", "(", ")");
+
+            for (ColumnMetadata column : fields) {
+                columns.add(column.getName());
+                values.add("?");
             }
+
+            StringJoiner valuesList = new StringJoiner(", ");
+            for (int row = 0; row < rows; row++) {
+                valuesList.add(values.toString());
+            }
+
+            return String.format("INSERT INTO %s (%s) VALUES %s", metadata.getTableName(), columns, valuesList);
+        });
+    }
+
+    private static BitSet changedColumns(EntityMetadata metadata, Object entity) {
+        if (!DBConfig.isDirtyTracking()) {
+            return null;
         }
 
-        String sql = String.format("DELETE FROM %s WHERE %s", tableName, whereClause);
-        return SQLUtils.preparedStatement(sql, entity, fields, connection);
+        return EntitySnapshots.changedColumns(metadata, entity);
     }
 
-    protected static <T> int deleteChildren(T entity, Field oneToManyField, Connection connection) throws SQLException, IllegalAccessException {
-        JoinColumns joinColumns = oneToManyField.getAnnotation(JoinColumns.class);
-        if (joinColumns == null) {
-            return 0;
+    private static List<ColumnMetadata> updateColumns(EntityMetadata metadata, BitSet changed) {
+        if (changed == null) {
+            return updateColumns(metadata);
         }
 
-        Class<?> childClass = SQLUtils.getCollectionGenericType(oneToManyField);
-        if (!childClass.isAnnotationPresent(Table.class)) {
-            throw new RuntimeException("Classe filha sem @Table");
+        List<ColumnMetadata> fields = new ArrayList<>();
+        for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+            fields.add(metadata.getColumns().get(i));
         }
 
-        Table table = childClass.getAnnotation(Table.class);
-        String tableName = table.name();
+        fields.addAll(metadata.requirePrimaryKeys());
+        return fields;
+    }
 
-        StringJoiner whereClause = new StringJoiner(" AND ");
-        List<Field> fields = new ArrayList<>();
+    private static String updateSql(EntityMetadata metadata, BitSet changed) {
+        if (changed == null) {
+            return updateSql(metadata);
+        }
 
-        for (JoinColumn joinColumn : joinColumns.value()) {
-            Field parentField = SQLUtils.findFieldByColumn(entity, joinColumn.referencedColumnName());
+        return metadata.getSql(Arrays.asList("update", changed), () -> {
+            StringJoiner setClause = new StringJoiner(", ");
 
-            if (parentField == null) {
-                throw new RuntimeException("Campo não encontrado: " + joinColumn.referencedColumnName());
+            for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+                setClause.add(String.format("%s = ?", metadata.getColumns().get(i).getName()));
             }
 
-            parentField.setAccessible(true);
-            whereClause.add(joinColumn.name() + " = ?");
-            fields.add(parentField);
+            return String.format("UPDATE %s SET %s WHERE %s", metadata.getTableName(), setClause, whereClause(metadata.requirePrimaryKeys()));
+        });
+    }
+
+    private static String updateSql(EntityMetadata metadata) {
+        return metadata.getSql("update", () -> {
+            StringJoiner setClause = new StringJoiner(", ");
+
+            for (ColumnMetadata column : metadata.getNonPrimaryKeys()) {
+                setClause.add(String.format("%s = ?", column.getName()));
+            }
+
+            return String.format("UPDATE %s SET %s WHERE %s", metadata.getTableName(), setClause, whereClause(metadata.requirePrimaryKeys()));
+        });
+    }
+
+    private static String deleteByIdSql(EntityMetadata metadata) {
+        return metadata.getSql("deleteById", () ->
+                String.format("DELETE FROM %s WHERE %s", metadata.getTableName(), whereClause(metadata.requirePrimaryKeys()))
+        );
+    }
+
+    private static String deleteChildrenSql(EntityMetadata metadata, JoinMetadata join) {
+        return metadata.getSql(join, () -> {
+            StringJoiner whereClause = new StringJoiner(" AND ");
+
+            for (JoinColumn joinColumn : join.getJoinColumns()) {
+                whereClause.add(joinColumn.name() + " = ?");
+            }
+
+            return String.format("DELETE FROM %s WHERE %s", join.getTarget().getTableName(), whereClause);
+        });
+    }
+
+    private static String whereClause(List<ColumnMetadata> columns) {
+        StringJoiner whereClause = new StringJoiner(" AND ");
+
+        for (ColumnMetadata column : columns) {
+            whereClause.add(String.format("%s = ?", column.getName()));
         }
 
-        String sql = String.format("DELETE FROM %s WHERE %s", tableName, whereClause);
-        return SQLUtils.preparedStatement(sql, entity, fields, connection);
+        return whereClause.toString();
     }
 
 }
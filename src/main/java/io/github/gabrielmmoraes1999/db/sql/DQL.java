@@ -1,14 +1,22 @@
 package io.github.gabrielmmoraes1999.db.sql;
 
-import io.github.gabrielmmoraes1999.db.annotation.*;
+import io.github.gabrielmmoraes1999.db.DBConfig;
+import io.github.gabrielmmoraes1999.db.Dialect;
+import io.github.gabrielmmoraes1999.db.Pageable;
+import io.github.gabrielmmoraes1999.db.Slice;
+import io.github.gabrielmmoraes1999.db.core.ColumnMetadata;
 import io.github.gabrielmmoraes1999.db.core.EntityBuilder;
+import io.github.gabrielmmoraes1999.db.core.EntityCursor;
+import io.github.gabrielmmoraes1999.db.core.EntityKey;
+import io.github.gabrielmmoraes1999.db.core.EntityMetadata;
+import io.github.gabrielmmoraes1999.db.core.ProjectionMetadata;
+import io.github.gabrielmmoraes1999.db.core.ResultCursor;
 import io.github.gabrielmmoraes1999.db.parse.MethodNameParser;
 import io.github.gabrielmmoraes1999.db.parse.ParsedQuery;
 import io.github.gabrielmmoraes1999.db.parse.SqlRenderer;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.sql.*;
@@ -23,16 +31,12 @@ public class DQL {
             resultList = EntityBuilder.build(entityClass, preparedStatement);
         }
 
+        BatchFetcher.fetch(entityClass, resultList, connection);
         return resultList;
     }
 
     public static <T, ID> T findById(Class<T> entityClass, ID id, Connection connection) throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException, SQLException {
-        if (!entityClass.isAnnotationPresent(Table.class)) {
-            throw new IllegalArgumentException("The class does not have the annotation @Table.");
-        }
-
-        T entity = entityClass.getDeclaredConstructor().newInstance();
-        int sizePrimatyKey = 0;
+        EntityMetadata metadata = EntityMetadata.of(entityClass);
 
         List<Object> keys;
         if (id instanceof List) {
@@ -41,71 +45,56 @@ public class DQL {
             keys = Collections.singletonList(id);
         }
 
-        for (Field field : entityClass.getDeclaredFields()) {
-            if (!field.isAnnotationPresent(Column.class)) {
-                continue;
-            }
-
-            if (field.isAnnotationPresent(PrimaryKey.class)) {
-                field.setAccessible(true);
-                field.set(entity, keys.get(sizePrimatyKey));
-                sizePrimatyKey++;
-            }
-        }
-
-        if (!Objects.equals(sizePrimatyKey, keys.size())) {
+        if (!Objects.equals(metadata.getPrimaryKeys().size(), keys.size())) {
             throw new IllegalArgumentException("The amount PK invalid.");
         }
 
-        return DQL.findById(entity, connection);
+        return findById(entityClass, metadata, keys, connection);
     }
 
     public static <T> T findById(T entity, Connection connection) throws InvocationTargetException, InstantiationException, NoSuchMethodException, IllegalAccessException, SQLException {
         @SuppressWarnings("unchecked")
         Class<T> entityClass = (Class<T>) entity.getClass();
+        EntityMetadata metadata = EntityMetadata.of(entityClass);
+        List<Object> keys = new ArrayList<>();
 
-        if (!entityClass.isAnnotationPresent(Table.class)) {
-            throw new IllegalArgumentException("The class does not have the annotation @Table.");
+        for (ColumnMetadata column : metadata.requirePrimaryKeys()) {
+            keys.add(column.get(entity));
         }
 
-        Table table = entityClass.getAnnotation(Table.class);
+        return findById(entityClass, metadata, keys, connection);
+    }
 
-        StringJoiner whereClause = new StringJoiner(" AND ");
-        List<Field> primaryKeyFields = new ArrayList<>();
+    private static <T> T findById(Class<T> entityClass, EntityMetadata metadata, List<Object> keys, Connection connection) throws InvocationTargetException, InstantiationException, NoSuchMethodException, IllegalAccessException, SQLException {
+        List<ColumnMetadata> primaryKeyFields = metadata.requirePrimaryKeys();
 
-        for (Field field : entityClass.getDeclaredFields()) {
-            if (!field.isAnnotationPresent(Column.class)) {
-                continue;
+        for (Object key : keys) {
+            if (Objects.isNull(key)) {
+                throw new IllegalArgumentException("Valor do @PrimaryKey é nulo");
             }
+        }
 
-            Column column = field.getAnnotation(Column.class);
-            if (field.isAnnotationPresent(PrimaryKey.class)) {
-                whereClause.add(String.format("p1.%s = ?", column.name()));
-                primaryKeyFields.add(field);
+        String sql = metadata.getSql("findById", () -> {
+            StringJoiner whereClause = new StringJoiner(" AND ");
 
-                field.setAccessible(true);
-                if (Objects.isNull(field.get(entity))) {
-                    throw new IllegalArgumentException("Valor do @PrimaryKey é nulo");
-                }
+            for (ColumnMetadata column : primaryKeyFields) {
+                whereClause.add(String.format("p1.%s = ?", column.getName()));
             }
-        }
 
-        if (primaryKeyFields.isEmpty()) {
-            throw new IllegalArgumentException("Classe sem @PrimaryKey");
-        }
+            return String.format("%s WHERE %s", SqlRenderer.toSql(null, null, entityClass), whereClause);
+        });
 
         List<T> result;
-        String sql = String.format("%s WHERE %s", SqlRenderer.toSql(null, null, entityClass), whereClause);
         try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-            for (int i = 0; i < primaryKeyFields.size(); i++) {
-                Field field = primaryKeyFields.get(i);
-                field.setAccessible(true);
-                SQLUtils.setPreparedStatement(preparedStatement, i + 1, field.get(entity));
+            for (int i = 0; i < keys.size(); i++) {
+                SQLUtils.setPreparedStatement(preparedStatement, i + 1, keys.get(i));
             }
 
             result = EntityBuilder.build(entityClass, preparedStatement);
         }
 
+        BatchFetcher.fetch(entityClass, result, connection);
+
         if (result.isEmpty()) {
             return null;
         } else {
@@ -113,24 +102,302 @@ public class DQL {
         }
     }
 
-    public static <T> Object handleMethod(Class<T> entityClass, Method method, Object[] args, Connection connection) throws SQLException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
-        String methodName = method.getName();
-        Class<?> returnClass = method.getReturnType();
+    public static <T> List<T> reload(List<T> entities, Connection connection) throws InvocationTargetException, InstantiationException, NoSuchMethodException, IllegalAccessException, SQLException {
+        List<T> result = new ArrayList<>();
+
+        if (entities.isEmpty()) {
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        Class<T> entityClass = (Class<T>) entities.get(0).getClass();
+        EntityMetadata metadata = EntityMetadata.of(entityClass);
+        List<List<Object>> keys = new ArrayList<>();
+
+        for (T entity : entities) {
+            List<Object> key = new ArrayList<>();
+
+            for (ColumnMetadata column : metadata.requirePrimaryKeys()) {
+                key.add(column.get(entity));
+            }
+
+            keys.add(key);
+        }
+
+        Map<EntityKey, T> found = new HashMap<>();
+        for (T entity : findAllByKeys(entityClass, keys, connection)) {
+            found.put(EntityKey.of(metadata.getPrimaryKeys(), entity), entity);
+        }
+
+        for (T entity : entities) {
+            result.add(found.get(EntityKey.of(metadata.getPrimaryKeys(), entity)));
+        }
+
+        return result;
+    }
+
+    public static <T, ID> List<T> findAllById(Class<T> entityClass, Collection<ID> ids, Connection connection) throws InvocationTargetException, InstantiationException, NoSuchMethodException, IllegalAccessException, SQLException {
+        EntityMetadata metadata = EntityMetadata.of(entityClass);
+        return findAllByKeys(entityClass, SQLUtils.keysOf(metadata.requirePrimaryKeys(), ids), connection);
+    }
+
+    public static <T> List<T> existing(List<T> entities, Connection connection) throws SQLException, ReflectiveOperationException {
+        List<T> result = new ArrayList<>();
+
+        if (entities.isEmpty()) {
+            return result;
+        }
+
+        EntityMetadata metadata = EntityMetadata.of(entities.get(0).getClass());
+        List<ColumnMetadata> primaryKeyFields = metadata.requirePrimaryKeys();
+        Map<EntityKey, List<Object>> keys = new LinkedHashMap<>();
+
+        for (T entity : entities) {
+            List<Object> key = new ArrayList<>(primaryKeyFields.size());
+
+            for (ColumnMetadata column : primaryKeyFields) {
+                key.add(column.get(entity));
+            }
+
+            keys.putIfAbsent(EntityKey.of(primaryKeyFields, entity), key);
+        }
+
+        List<List<Object>> keyList = new ArrayList<>(keys.values());
+        Set<EntityKey> found = new HashSet<>();
+        Dialect dialect = Dialect.of(connection);
+        int chunkSize = SQLUtils.keyChunkSize(primaryKeyFields, dialect);
+
+        for (int start = 0; start < keyList.size(); start += chunkSize) {
+            List<List<Object>> chunk = keyList.subList(start, Math.min(start + chunkSize, keyList.size()));
+            int size = SQLUtils.paddedSize(chunk.size(), chunkSize);
+
+            String sql = metadata.getSql(Arrays.asList("existing", size, dialect.supportsRowValueIn()), () -> {
+                StringJoiner columns = new StringJoiner(", ");
+                for (ColumnMetadata column : primaryKeyFields) {
+                    columns.add(column.getName());
+                }
+
+                return String.format("SELECT %s FROM %s WHERE %s", columns, metadata.getTableName(), SQLUtils.keyInClause(primaryKeyFields, "", size, dialect));
+            });
+
+            try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                SQLUtils.bindKeys(preparedStatement, chunk, size);
+
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        Object row = metadata.newInstance();
+
+                        for (int i = 0; i < primaryKeyFields.size(); i++) {
+                            primaryKeyFields.get(i).getReader().read(resultSet, i + 1, row);
+                        }
+
+                        found.add(EntityKey.of(primaryKeyFields, row));
+                    }
+                }
+            }
+        }
+
+        for (T entity : entities) {
+            if (found.contains(EntityKey.of(primaryKeyFields, entity))) {
+                result.add(entity);
+            }
+        }
+
+        return result;
+    }
+
+    public static <T> List<T> findAllByKeys(Class<T> entityClass, List<List<Object>> keys, Connection connection) throws InvocationTargetException, InstantiationException, NoSuchMethodException, IllegalAccessException, SQLException {
+        EntityMetadata metadata = EntityMetadata.of(entityClass);
+        List<ColumnMetadata> primaryKeyFields = metadata.requirePrimaryKeys();
+        Map<Object, T> rootMap = new LinkedHashMap<>();
+
+        if (keys.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        keys = SQLUtils.keysOf(primaryKeyFields, keys);
+        Dialect dialect = Dialect.of(connection);
+        int chunkSize = SQLUtils.keyChunkSize(primaryKeyFields, dialect);
+
+        for (int start = 0; start < keys.size(); start += chunkSize) {
+            List<List<Object>> chunk = keys.subList(start, Math.min(start + chunkSize, keys.size()));
+            int size = SQLUtils.paddedSize(chunk.size(), chunkSize);
+
+            String sql = metadata.getSql(Arrays.asList("findAllByKeys", size, dialect.supportsRowValueIn()), () ->
+                    String.format("%s WHERE %s", SqlRenderer.toSql(null, null, entityClass), SQLUtils.keyInClause(primaryKeyFields, "p1.", size, dialect))
+            );
+
+            try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                SQLUtils.bindKeys(preparedStatement, chunk, size);
+                EntityBuilder.build(entityClass, preparedStatement, rootMap);
+            }
+        }
+
+        List<T> result = new ArrayList<>(rootMap.values());
+        BatchFetcher.fetch(entityClass, result, connection);
+        return result;
+    }
+
+    public static <T> EntityCursor<T> openCursor(Class<T> entityClass, String sql, Object[] args, Connection connection) throws SQLException {
+        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+
+        try {
+            if (DBConfig.getFetchSize() > 0) {
+                preparedStatement.setFetchSize(DBConfig.getFetchSize());
+            }
 
-        if (!entityClass.isAnnotationPresent(Table.class)) {
-            throw new IllegalArgumentException("The class does not have the annotation @Table.");
+            SQLUtils.setArguments(preparedStatement, args);
+        } catch (SQLException | RuntimeException ex) {
+            preparedStatement.close();
+            throw ex;
         }
 
+        EntityCursor<T> cursor = EntityCursor.open(entityClass, preparedStatement);
+
+        if (BatchFetcher.hasAssociations(entityClass)) {
+            cursor.onChunk(DBConfig.getBatchSize(), roots -> BatchFetcher.fetch(entityClass, roots, connection));
+        }
+
+        return cursor;
+    }
+
+    public static <T> Slice<T> findPage(Class<T> entityClass, ParsedQuery query, Object[] args, Pageable pageable, Connection connection) throws SQLException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
+        if (pageable == null) {
+            throw new IllegalArgumentException("The pageable must not be null.");
+        }
+
+        if (query != null && query.limit > 0) {
+            throw new IllegalArgumentException("First/Top queries do not support Pageable.");
+        }
+
+        EntityMetadata metadata = EntityMetadata.of(entityClass);
+        Dialect dialect = Dialect.of(connection);
+        List<T> resultList;
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(SqlRenderer.toPagedSql(query, entityClass, args, pageable, dialect))) {
+            SQLUtils.setArguments(preparedStatement, SqlRenderer.pageArguments(args, pageable, dialect).toArray());
+            resultList = EntityBuilder.build(entityClass, preparedStatement);
+        }
+
+        if (resultList.size() > pageable.getSize()) {
+            BatchFetcher.fetch(entityClass, resultList.subList(0, pageable.getSize()), connection);
+        } else {
+            BatchFetcher.fetch(entityClass, resultList, connection);
+        }
+
+        if (resultList.size() <= pageable.getSize()) {
+            return new Slice<>(resultList, pageable, null);
+        }
+
+        resultList = new ArrayList<>(resultList.subList(0, pageable.getSize()));
+
+        if (!pageable.isKeyset()) {
+            return new Slice<>(resultList, pageable, pageable.next());
+        }
+
+        T last = resultList.get(resultList.size() - 1);
+        List<ColumnMetadata> primaryKeys = metadata.requirePrimaryKeys();
+        Object[] key = new Object[primaryKeys.size()];
+
+        for (int i = 0; i < key.length; i++) {
+            key[i] = primaryKeys.get(i).get(last);
+        }
+
+        return new Slice<>(resultList, pageable, Pageable.after(pageable.getSize(), key));
+    }
+
+    public static Object handleProjection(ProjectionMetadata projection, String sql, Class<?> returnClass, Object[] args, Connection connection) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            SQLUtils.setArguments(preparedStatement, args);
+            return readProjection(projection, preparedStatement, !returnClass.isAssignableFrom(List.class));
+        }
+    }
+
+    public static Object readProjection(ProjectionMetadata projection, PreparedStatement preparedStatement, boolean single) throws SQLException {
+        List<Object> resultList = new ArrayList<>();
+        ProjectionMetadata.ResultReader reader = projection.reader();
+
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                resultList.add(reader.read(resultSet));
+
+                if (single) {
+                    break;
+                }
+            }
+        }
+
+        if (single) {
+            return resultList.isEmpty() ? null : resultList.get(0);
+        }
+
+        return resultList;
+    }
+
+    public static ResultCursor<Object> openProjectionCursor(ProjectionMetadata projection, String sql, Object[] args, Connection connection) throws SQLException {
+        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+
+        try {
+            if (DBConfig.getFetchSize() > 0) {
+                preparedStatement.setFetchSize(DBConfig.getFetchSize());
+            }
+
+            SQLUtils.setArguments(preparedStatement, args);
+        } catch (SQLException | RuntimeException ex) {
+            preparedStatement.close();
+            throw ex;
+        }
+
+        return ResultCursor.open(preparedStatement, projection.reader()::read);
+    }
+
+    public static Object handleCount(String sql, Class<?> returnClass, Object[] args, Connection connection) throws SQLException {
+        long count = 0;
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            SQLUtils.setArguments(preparedStatement, args);
+
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (resultSet.next()) {
+                    count = resultSet.getLong(1);
+                }
+            }
+        }
+
+        if (returnClass == int.class || returnClass == Integer.class) {
+            return Math.toIntExact(count);
+        }
+
+        return count;
+    }
+
+    public static boolean handleExists(String sql, Object[] args, Connection connection) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(Dialect.of(connection).limitRows(sql, 1))) {
+            SQLUtils.setArguments(preparedStatement, args);
+            preparedStatement.setMaxRows(1);
+
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    public static <T> Object handleMethod(Class<T> entityClass, Method method, Object[] args, Connection connection) throws SQLException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
+        return handleQuery(entityClass, MethodNameParser.parse(method.getName()), method.getReturnType(), args, connection);
+    }
+
+    public static <T> Object handleQuery(Class<T> entityClass, ParsedQuery query, Class<?> returnClass, Object[] args, Connection connection) throws SQLException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
+        return handleQuery(entityClass, SqlRenderer.toSql(query, entityClass, args, null, Dialect.of(connection)), returnClass, args, connection);
+    }
+
+    public static <T> Object handleQuery(Class<T> entityClass, String sql, Class<?> returnClass, Object[] args, Connection connection) throws SQLException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
         T resultClass = null;
         List<T> resultList = new ArrayList<>();
         JSONObject jsonObject = new JSONObject();
         JSONArray jsonArray = new JSONArray();
 
-        ParsedQuery query = MethodNameParser.parse(methodName);
-        try (PreparedStatement preparedStatement = connection.prepareStatement(SqlRenderer.toSql(query, args[0], entityClass))) {
-            for (int i = 0; i < args.length; i++) {
-                SQLUtils.setPreparedStatement(preparedStatement, i + 1, args[i]);
-            }
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            SQLUtils.setArguments(preparedStatement, args);
 
             if (returnClass.isAssignableFrom(JSONObject.class) || returnClass.isAssignableFrom(JSONArray.class)) {
                 try (ResultSet resultSet = preparedStatement.executeQuery()) {
@@ -148,7 +415,7 @@ public class DQL {
                             JSONObject jsonObjectRow = new JSONObject();
 
                             for (int i = 1; i <= columnCount; i++) {
-                                jsonObject.put(metaData.getColumnLabel(i), resultSet.getObject(i));
+                                jsonObjectRow.put(metaData.getColumnLabel(i), resultSet.getObject(i));
                             }
 
                             jsonArray.put(jsonObjectRow);
@@ -157,8 +424,10 @@ public class DQL {
                 }
             } else if (returnClass.isAssignableFrom(List.class)) {
                 resultList = EntityBuilder.build(entityClass, preparedStatement);
+                BatchFetcher.fetch(entityClass, resultList, connection);
             } else if (returnClass.isAssignableFrom(entityClass)) {
                 List<T> entityList = EntityBuilder.build(entityClass, preparedStatement);
+                BatchFetcher.fetch(entityClass, entityList.isEmpty() ? entityList : entityList.subList(0, 1), connection);
 
                 if (!entityList.isEmpty()) {
                     resultClass = entityList.get(0);
@@ -1,51 +1,131 @@
 package io.github.gabrielmmoraes1999.db.sql;
 
-import io.github.gabrielmmoraes1999.db.annotation.Param;
-import io.github.gabrielmmoraes1999.db.annotation.Query;
-import io.github.gabrielmmoraes1999.db.annotation.Table;
+import io.github.gabrielmmoraes1999.db.DBConfig;
 import io.github.gabrielmmoraes1999.db.core.EntityBuilder;
-import io.github.gabrielmmoraes1999.db.parse.SqlTemplate;
+import io.github.gabrielmmoraes1999.db.core.JsonRowWriter;
+import io.github.gabrielmmoraes1999.db.core.ProjectionMetadata;
+import io.github.gabrielmmoraes1999.db.core.ResultCursor;
+import io.github.gabrielmmoraes1999.db.core.RowMap;
+import io.github.gabrielmmoraes1999.db.parse.CompiledTemplate;
+import io.github.gabrielmmoraes1999.db.util.Function;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
 import java.sql.*;
 import java.util.*;
 
 public class DQLCustom {
 
-    @Deprecated
-    public static <T> T getEntity(Class<T> entityClass, Method method, Object[] args, Connection connection) throws SQLException, InvocationTargetException, IllegalAccessException, NoSuchMethodException, InstantiationException {
-        Query queryAnnotation = method.getAnnotation(Query.class);
-        Parameter[] parameters = method.getParameters();
-        SqlTemplate sqlTemplate = SqlTemplate.of(queryAnnotation.value());
+    public static Object query(Class<?> entityClass, Method method, Object[] args, Connection connection) throws SQLException {
+        return query(entityClass, method.getReturnType(), Function.getClassList(method), method, args, connection);
+    }
 
-        if (args != null) {
-            for (int index = 0; index < args.length; index++) {
-                Param paramAnnotation = parameters[index].getAnnotation(Param.class);
+    public static Object query(Class<?> entityClass, Class<?> returnType, Class<?> classList, Method method, Object[] args, Connection connection) throws SQLException {
+        CompiledTemplate template = CompiledTemplate.of(method);
+        return query(entityClass, returnType, classList, template, args, connection);
+    }
 
-                if (paramAnnotation != null) {
-                    String paramName = paramAnnotation.value();
-                    sqlTemplate.set(paramName, args[index]);
-                }
+    public static Object query(Class<?> entityClass, Class<?> returnType, Class<?> classList, CompiledTemplate template, Object[] args, Connection connection) throws SQLException {
+        if (returnType.isAssignableFrom(entityClass)) {
+            throw new IllegalArgumentException("The @Query annotation does not support entity return types.");
+        } else if (returnType.isAssignableFrom(List.class)) {
+            if (classList.isAssignableFrom(entityClass)) {
+                throw new IllegalArgumentException("The @Query annotation does not support entity return types.");
+            } else if (ProjectionMetadata.isProjection(entityClass, classList)) {
+                return getProjection(ProjectionMetadata.of(entityClass, classList), false, template, args, connection);
+            } else if (classList.isAssignableFrom(Map.class)) {
+                return getMapList(template, args, connection);
+            } else {
+                return getObjectList(classList, template, args, connection);
             }
+        } else if (returnType.isAssignableFrom(Map.class)) {
+            return getMap(template, args, connection);
+        } else if (returnType.isAssignableFrom(JSONObject.class)) {
+            return getJsonObject(template, args, connection);
+        } else if (returnType.isAssignableFrom(JSONArray.class)) {
+            return getJsonArray(template, args, connection);
+        } else if (ProjectionMetadata.isProjection(entityClass, returnType)) {
+            return getProjection(ProjectionMetadata.of(entityClass, returnType), true, template, args, connection);
+        } else if (returnType == int[].class || returnType == long[].class || returnType == double[].class) {
+            return getPrimitiveArray(returnType.getComponentType(), template, args, connection);
+        } else {
+            return getObject(returnType, template, args, connection);
         }
+    }
 
-        List<T> results;
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sqlTemplate.getSql())) {
-            List<Object> bindValues = sqlTemplate.getBindValues();
+    public static ResultCursor<?> openCursor(Class<?> entityClass, Class<?> classList, CompiledTemplate template, Object[] args, Connection connection) throws SQLException {
+        if (entityClass != null && classList != null && classList != Object.class && classList.isAssignableFrom(entityClass)) {
+            throw new IllegalArgumentException("The @Query annotation does not support entity return types.");
+        }
+
+        PreparedStatement preparedStatement = prepare(template, args, connection);
 
-            int position = 1;
-            for (Object object : bindValues) {
-                SQLUtils.setPreparedStatement(preparedStatement, position, object);
-                position++;
+        try {
+            if (DBConfig.getFetchSize() > 0) {
+                preparedStatement.setFetchSize(DBConfig.getFetchSize());
             }
+        } catch (SQLException | RuntimeException ex) {
+            preparedStatement.close();
+            throw ex;
+        }
 
-            results = EntityBuilder.build(entityClass, preparedStatement);
+        if (classList != null && classList.isAssignableFrom(Map.class) && DBConfig.isCompactRows()) {
+            return ResultCursor.open(preparedStatement, new ResultCursor.RowReader<Map<String, Object>>() {
+
+                private RowMap.Header header;
+
+                @Override
+                public Map<String, Object> read(ResultSet resultSet) throws SQLException {
+                    if (header == null) {
+                        header = RowMap.Header.of(resultSet);
+                    }
+
+                    return header.read(resultSet);
+                }
+
+            });
+        } else if (classList != null && classList.isAssignableFrom(Map.class)) {
+            return ResultCursor.open(preparedStatement, new ResultCursor.RowReader<Map<String, Object>>() {
+
+                private String[] labels;
+
+                @Override
+                public Map<String, Object> read(ResultSet resultSet) throws SQLException {
+                    if (labels == null) {
+                        ResultSetMetaData metaData = resultSet.getMetaData();
+                        labels = new String[metaData.getColumnCount()];
+
+                        for (int i = 0; i < labels.length; i++) {
+                            labels[i] = metaData.getColumnLabel(i + 1);
+                        }
+                    }
+
+                    Map<String, Object> result = new LinkedHashMap<>();
+
+                    for (int i = 0; i < labels.length; i++) {
+                        result.put(labels[i], resultSet.getObject(i + 1));
+                    }
+
+                    return result;
+                }
+
+            });
+        } else if (classList == null || classList == Object.class) {
+            return ResultCursor.open(preparedStatement, resultSet -> resultSet.getObject(1));
+        } else if (ProjectionMetadata.isProjection(entityClass, classList)) {
+            return ResultCursor.open(preparedStatement, ProjectionMetadata.of(entityClass, classList).reader()::read);
         }
 
+        return ResultCursor.open(preparedStatement, resultSet -> resultSet.getObject(1, classList));
+    }
+
+    @Deprecated
+    public static <T> T getEntity(Class<T> entityClass, Method method, Object[] args, Connection connection) throws SQLException, InvocationTargetException, IllegalAccessException, NoSuchMethodException, InstantiationException {
+        List<T> results = getEntityList(entityClass, method, args, connection);
+
         if (results.isEmpty()) {
             return null;
         } else {
@@ -55,64 +135,31 @@ public class DQLCustom {
 
     @Deprecated
     public static <T> List<T> getEntityList(Class<T> entityClass, Method method, Object[] args, Connection connection) throws SQLException, NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
-        Query queryAnnotation = method.getAnnotation(Query.class);
-        Parameter[] parameters = method.getParameters();
-        SqlTemplate sqlTemplate = SqlTemplate.of(queryAnnotation.value());
-
-        if (args != null) {
-            for (int index = 0; index < args.length; index++) {
-                Param paramAnnotation = parameters[index].getAnnotation(Param.class);
-
-                if (paramAnnotation != null) {
-                    String paramName = paramAnnotation.value();
-                    sqlTemplate.set(paramName, args[index]);
-                }
-            }
-        }
-
+        CompiledTemplate template = CompiledTemplate.of(method);
         List<T> results;
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sqlTemplate.getSql())) {
-            List<Object> bindValues = sqlTemplate.getBindValues();
-
-            int position = 1;
-            for (Object object : bindValues) {
-                SQLUtils.setPreparedStatement(preparedStatement, position, object);
-                position++;
-            }
 
+        try (PreparedStatement preparedStatement = prepare(template, args, connection)) {
             results = EntityBuilder.build(entityClass, preparedStatement);
         }
 
+        BatchFetcher.fetch(entityClass, results, connection);
         return results;
     }
 
     public static Map<String, Object> getMap(Method method, Object[] args, Connection connection) throws SQLException {
-        Query queryAnnotation = method.getAnnotation(Query.class);
-        Parameter[] parameters = method.getParameters();
-        SqlTemplate sqlTemplate = SqlTemplate.of(queryAnnotation.value());
-        Map<String, Object> result = new LinkedHashMap<>();
+        CompiledTemplate template = CompiledTemplate.of(method);
+        return getMap(template, args, connection);
+    }
 
-        if (args != null) {
-            for (int index = 0; index < args.length; index++) {
-                Param paramAnnotation = parameters[index].getAnnotation(Param.class);
+    public static Map<String, Object> getMap(CompiledTemplate template, Object[] args, Connection connection) throws SQLException {
+        Map<String, Object> result = new LinkedHashMap<>();
 
-                if (paramAnnotation != null) {
-                    String paramName = paramAnnotation.value();
-                    sqlTemplate.set(paramName, args[index]);
+        try (PreparedStatement preparedStatement = prepare(template, args, connection)) {
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (DBConfig.isCompactRows()) {
+                    return resultSet.next() ? RowMap.Header.of(resultSet).read(resultSet) : result;
                 }
-            }
-        }
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sqlTemplate.getSql())) {
-            List<Object> bindValues = sqlTemplate.getBindValues();
-
-            int position = 1;
-            for (Object object : bindValues) {
-                SQLUtils.setPreparedStatement(preparedStatement, position, object);
-                position++;
-            }
-
-            try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 ResultSetMetaData metaData = resultSet.getMetaData();
                 int columnCount = metaData.getColumnCount();
 
@@ -131,32 +178,25 @@ public class DQLCustom {
     }
 
     public static List<Map<String, Object>> getMapList(Method method, Object[] args, Connection connection) throws SQLException {
-        Query queryAnnotation = method.getAnnotation(Query.class);
-        Parameter[] parameters = method.getParameters();
-        SqlTemplate sqlTemplate = SqlTemplate.of(queryAnnotation.value());
-        List<Map<String, Object>> resultList = new ArrayList<>();
+        CompiledTemplate template = CompiledTemplate.of(method);
+        return getMapList(template, args, connection);
+    }
 
-        if (args != null) {
-            for (int index = 0; index < args.length; index++) {
-                Param paramAnnotation = parameters[index].getAnnotation(Param.class);
+    public static List<Map<String, Object>> getMapList(CompiledTemplate template, Object[] args, Connection connection) throws SQLException {
+        List<Map<String, Object>> resultList = new ArrayList<>();
 
-                if (paramAnnotation != null) {
-                    String paramName = paramAnnotation.value();
-                    sqlTemplate.set(paramName, args[index]);
-                }
-            }
-        }
+        try (PreparedStatement preparedStatement = prepare(template, args, connection)) {
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (DBConfig.isCompactRows()) {
+                    RowMap.Header header = RowMap.Header.of(resultSet);
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sqlTemplate.getSql())) {
-            List<Object> bindValues = sqlTemplate.getBindValues();
+                    while (resultSet.next()) {
+                        resultList.add(header.read(resultSet));
+                    }
 
-            int position = 1;
-            for (Object object : bindValues) {
-                SQLUtils.setPreparedStatement(preparedStatement, position, object);
-                position++;
-            }
+                    return resultList;
+                }
 
-            try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 ResultSetMetaData metaData = resultSet.getMetaData();
                 int columnCount = metaData.getColumnCount();
 
@@ -179,31 +219,14 @@ public class DQLCustom {
     }
 
     public static JSONObject getJsonObject(Method method, Object[] args, Connection connection) throws SQLException {
-        Query queryAnnotation = method.getAnnotation(Query.class);
-        Parameter[] parameters = method.getParameters();
-        SqlTemplate sqlTemplate = SqlTemplate.of(queryAnnotation.value());
-        JSONObject result = new JSONObject();
-
-        if (args != null) {
-            for (int index = 0; index < args.length; index++) {
-                Param paramAnnotation = parameters[index].getAnnotation(Param.class);
-
-                if (paramAnnotation != null) {
-                    String paramName = paramAnnotation.value();
-                    sqlTemplate.set(paramName, args[index]);
-                }
-            }
-        }
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sqlTemplate.getSql())) {
-            List<Object> bindValues = sqlTemplate.getBindValues();
+        CompiledTemplate template = CompiledTemplate.of(method);
+        return getJsonObject(template, args, connection);
+    }
 
-            int position = 1;
-            for (Object object : bindValues) {
-                SQLUtils.setPreparedStatement(preparedStatement, position, object);
-                position++;
-            }
+    public static JSONObject getJsonObject(CompiledTemplate template, Object[] args, Connection connection) throws SQLException {
+        JSONObject result = new JSONObject();
 
+        try (PreparedStatement preparedStatement = prepare(template, args, connection)) {
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 ResultSetMetaData metaData = resultSet.getMetaData();
                 int columnCount = metaData.getColumnCount();
@@ -223,31 +246,14 @@ public class DQLCustom {
     }
 
     public static JSONArray getJsonArray(Method method, Object[] args, Connection connection) throws SQLException {
-        Query queryAnnotation = method.getAnnotation(Query.class);
-        Parameter[] parameters = method.getParameters();
-        SqlTemplate sqlTemplate = SqlTemplate.of(queryAnnotation.value());
-        JSONArray resultList = new JSONArray();
-
-        if (args != null) {
-            for (int index = 0; index < args.length; index++) {
-                Param paramAnnotation = parameters[index].getAnnotation(Param.class);
-
-                if (paramAnnotation != null) {
-                    String paramName = paramAnnotation.value();
-                    sqlTemplate.set(paramName, args[index]);
-                }
-            }
-        }
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sqlTemplate.getSql())) {
-            List<Object> bindValues = sqlTemplate.getBindValues();
+        CompiledTemplate template = CompiledTemplate.of(method);
+        return getJsonArray(template, args, connection);
+    }
 
-            int position = 1;
-            for (Object object : bindValues) {
-                SQLUtils.setPreparedStatement(preparedStatement, position, object);
-                position++;
-            }
+    public static JSONArray getJsonArray(CompiledTemplate template, Object[] args, Connection connection) throws SQLException {
+        JSONArray resultList = new JSONArray();
 
+        try (PreparedStatement preparedStatement = prepare(template, args, connection)) {
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 ResultSetMetaData metaData = resultSet.getMetaData();
                 int columnCount = metaData.getColumnCount();
@@ -270,32 +276,37 @@ public class DQLCustom {
         return resultList;
     }
 
-    public static <R> R getObject(Class<R> returnType, Method method, Object[] args, Connection connection) throws SQLException {
-        Query queryAnnotation = method.getAnnotation(Query.class);
-        Parameter[] parameters = method.getParameters();
-        SqlTemplate sqlTemplate = SqlTemplate.of(queryAnnotation.value());
-        R result = null;
+    public static int writeJson(CompiledTemplate template, Object[] args, Object target, Connection connection) throws SQLException {
+        JsonRowWriter writer = JsonRowWriter.of(target);
 
-        if (args != null) {
-            for (int index = 0; index < args.length; index++) {
-                Param paramAnnotation = parameters[index].getAnnotation(Param.class);
+        try (PreparedStatement preparedStatement = prepare(template, args, connection)) {
+            if (DBConfig.getFetchSize() > 0) {
+                preparedStatement.setFetchSize(DBConfig.getFetchSize());
+            }
 
-                if (paramAnnotation != null) {
-                    String paramName = paramAnnotation.value();
-                    sqlTemplate.set(paramName, args[index]);
-                }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return writer.writeArray(resultSet);
             }
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
         }
+    }
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sqlTemplate.getSql())) {
-            List<Object> bindValues = sqlTemplate.getBindValues();
+    public static Object getProjection(ProjectionMetadata projection, boolean single, CompiledTemplate template, Object[] args, Connection connection) throws SQLException {
+        try (PreparedStatement preparedStatement = prepare(template, args, connection)) {
+            return DQL.readProjection(projection, preparedStatement, single);
+        }
+    }
 
-            int position = 1;
-            for (Object object : bindValues) {
-                SQLUtils.setPreparedStatement(preparedStatement, position, object);
-                position++;
-            }
+    public static <R> R getObject(Class<R> returnType, Method method, Object[] args, Connection connection) throws SQLException {
+        CompiledTemplate template = CompiledTemplate.of(method);
+        return getObject(returnType, template, args, connection);
+    }
 
+    public static <R> R getObject(Class<R> returnType, CompiledTemplate template, Object[] args, Connection connection) throws SQLException {
+        R result = null;
+
+        try (PreparedStatement preparedStatement = prepare(template, args, connection)) {
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 if (resultSet.next()) {
                     result = resultSet.getObject(1, returnType);
@@ -308,40 +319,88 @@ public class DQLCustom {
     }
 
     public static <R> List<R> getObjectList(Class<R> classList, Method method, Object[] args, Connection connection) throws SQLException {
-        Query queryAnnotation = method.getAnnotation(Query.class);
-        Parameter[] parameters = method.getParameters();
-        SqlTemplate sqlTemplate = SqlTemplate.of(queryAnnotation.value());
-        List<R> resultList = new ArrayList<>();
+        CompiledTemplate template = CompiledTemplate.of(method);
+        return getObjectList(classList, template, args, connection);
+    }
 
-        if (args != null) {
-            for (int index = 0; index < args.length; index++) {
-                Param paramAnnotation = parameters[index].getAnnotation(Param.class);
+    public static <R> List<R> getObjectList(Class<R> classList, CompiledTemplate template, Object[] args, Connection connection) throws SQLException {
+        List<R> resultList = new ArrayList<>();
 
-                if (paramAnnotation != null) {
-                    String paramName = paramAnnotation.value();
-                    sqlTemplate.set(paramName, args[index]);
+        try (PreparedStatement preparedStatement = prepare(template, args, connection)) {
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    resultList.add(resultSet.getObject(1, classList));
                 }
             }
+
         }
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sqlTemplate.getSql())) {
-            List<Object> bindValues = sqlTemplate.getBindValues();
+        return resultList;
+    }
 
-            int position = 1;
-            for (Object object : bindValues) {
-                SQLUtils.setPreparedStatement(preparedStatement, position, object);
-                position++;
+    public static Object getPrimitiveArray(Class<?> componentType, CompiledTemplate template, Object[] args, Connection connection) throws SQLException {
+        try (PreparedStatement preparedStatement = prepare(template, args, connection)) {
+            if (DBConfig.getFetchSize() > 0) {
+                preparedStatement.setFetchSize(DBConfig.getFetchSize());
             }
 
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                while (resultSet.next()) {
-                    resultList.add(resultSet.getObject(1, classList));
+                int size = 0;
+
+                if (componentType == int.class) {
+                    int[] result = new int[16];
+
+                    while (resultSet.next()) {
+                        if (size == result.length) {
+                            result = Arrays.copyOf(result, size << 1);
+                        }
+
+                        result[size++] = resultSet.getInt(1);
+                    }
+
+                    return Arrays.copyOf(result, size);
+                } else if (componentType == long.class) {
+                    long[] result = new long[16];
+
+                    while (resultSet.next()) {
+                        if (size == result.length) {
+                            result = Arrays.copyOf(result, size << 1);
+                        }
+
+                        result[size++] = resultSet.getLong(1);
+                    }
+
+                    return Arrays.copyOf(result, size);
+                } else if (componentType == double.class) {
+                    double[] result = new double[16];
+
+                    while (resultSet.next()) {
+                        if (size == result.length) {
+                            result = Arrays.copyOf(result, size << 1);
+                        }
+
+                        result[size++] = resultSet.getDouble(1);
+                    }
+
+                    return Arrays.copyOf(result, size);
                 }
             }
+        }
 
+        throw new IllegalArgumentException("Tipo primitivo não suportado: " + componentType.getName());
+    }
+
+    private static PreparedStatement prepare(CompiledTemplate template, Object[] args, Connection connection) throws SQLException {
+        PreparedStatement preparedStatement = connection.prepareStatement(template.getSql());
+
+        try {
+            template.bind(preparedStatement, args);
+        } catch (SQLException | RuntimeException ex) {
+            preparedStatement.close();
+            throw ex;
         }
 
-        return resultList;
+        return preparedStatement;
     }
 
 }
@@ -1,28 +1,36 @@
 package io.github.gabrielmmoraes1999.db.sql;
 
+import io.github.gabrielmmoraes1999.db.DBConfig;
+import io.github.gabrielmmoraes1999.db.Dialect;
 import io.github.gabrielmmoraes1999.db.annotation.Column;
-import io.github.gabrielmmoraes1999.db.annotation.JoinColumn;
-import io.github.gabrielmmoraes1999.db.annotation.JoinColumns;
+import io.github.gabrielmmoraes1999.db.core.ColumnMetadata;
+import io.github.gabrielmmoraes1999.db.core.EntityMetadata;
+import io.github.gabrielmmoraes1999.db.core.FieldAccessor;
+import io.github.gabrielmmoraes1999.db.core.JoinMetadata;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.sql.*;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
 
 public class SQLUtils {
 
-    protected static int preparedStatement(String sql, Object entity, List<Field> fields, Connection connection) throws SQLException, IllegalAccessException {
+    protected static int preparedStatement(String sql, Object entity, List<ColumnMetadata> columns, Connection connection) throws SQLException {
         int result = 0;
 
         try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
             int position = 1;
-            for (Field field : fields) {
-                field.setAccessible(true);
-                SQLUtils.preparedStatement(preparedStatement, field.getType(), position, field.get(entity));
+            for (ColumnMetadata column : columns) {
+                SQLUtils.preparedStatement(preparedStatement, position, column, entity);
                 position++;
             }
 
@@ -32,19 +40,93 @@ public class SQLUtils {
         return result;
     }
 
-    protected static PreparedStatement getPreparedStatement(String sql, Object entity, List<Field> fields, Connection connection) throws SQLException, IllegalAccessException {
+    protected static int preparedStatement(String sql, List<ColumnMetadata> columns, List<Object> values, Connection connection) throws SQLException {
+        int result = 0;
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < columns.size(); i++) {
+                SQLUtils.preparedStatement(preparedStatement, columns.get(i).getType(), i + 1, values.get(i));
+            }
+
+            result = preparedStatement.executeUpdate();
+        }
+
+        return result;
+    }
+
+    protected static int insertReturning(String sql, Object entity, List<ColumnMetadata> columns, List<ColumnMetadata> generated, Connection connection) throws SQLException {
+        int result;
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql, columnNames(generated))) {
+            bind(preparedStatement, columns, entity);
+            result = preparedStatement.executeUpdate();
+
+            try (ResultSet resultSet = preparedStatement.getGeneratedKeys()) {
+                if (resultSet.next()) {
+                    readGeneratedKeys(resultSet, generated, entity);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    protected static String[] columnNames(List<ColumnMetadata> columns) {
+        String[] names = new String[columns.size()];
+
+        for (int i = 0; i < names.length; i++) {
+            names[i] = columns.get(i).getName();
+        }
+
+        return names;
+    }
+
+    protected static void readGeneratedKeys(ResultSet resultSet, List<ColumnMetadata> generated, Object entity) throws SQLException {
+        for (int i = 0; i < generated.size(); i++) {
+            generated.get(i).getReader().read(resultSet, i + 1, entity);
+        }
+    }
+
+    protected static PreparedStatement getPreparedStatement(String sql, Object entity, List<ColumnMetadata> columns, Connection connection) throws SQLException {
         PreparedStatement preparedStatement = connection.prepareStatement(sql);
 
         int position = 1;
-        for (Field field : fields) {
-            field.setAccessible(true);
-            SQLUtils.preparedStatement(preparedStatement, field.getType(), position, field.get(entity));
+        for (ColumnMetadata column : columns) {
+            SQLUtils.preparedStatement(preparedStatement, position, column, entity);
             position++;
         }
 
         return preparedStatement;
     }
 
+    protected static void bind(PreparedStatement preparedStatement, List<ColumnMetadata> columns, Object entity) throws SQLException {
+        bind(preparedStatement, 1, columns, entity);
+    }
+
+    protected static void bind(PreparedStatement preparedStatement, int position, List<ColumnMetadata> columns, Object entity) throws SQLException {
+        for (ColumnMetadata column : columns) {
+            SQLUtils.preparedStatement(preparedStatement, position, column, entity);
+            position++;
+        }
+    }
+
+    private static void preparedStatement(PreparedStatement preparedStatement, int position, ColumnMetadata column, Object entity) throws SQLException {
+        FieldAccessor accessor = column.getAccessor();
+        Class<?> classType = column.getType();
+
+        if (classType == int.class) {
+            preparedStatement.setInt(position, accessor.getInt(entity));
+        } else if (classType == long.class) {
+            preparedStatement.setLong(position, accessor.getLong(entity));
+        } else if (classType == double.class) {
+            preparedStatement.setDouble(position, accessor.getDouble(entity));
+        } else if (classType == boolean.class) {
+            preparedStatement.setBoolean(position, accessor.getBoolean(entity));
+        } else {
+            SQLUtils.preparedStatement(preparedStatement, classType, position, accessor.get(entity));
+        }
+    }
+
     private static void preparedStatement(PreparedStatement preparedStatement, Class<?> classType, int position, Object value) throws SQLException {
         if (classType == Integer.class) {
             if (value == null) {
@@ -145,6 +227,25 @@ public class SQLUtils {
         }
     }
 
+    public static void setArguments(PreparedStatement preparedStatement, Object[] args) throws SQLException {
+        if (args == null) {
+            return;
+        }
+
+        int position = 1;
+        for (Object arg : args) {
+            if (arg instanceof Collection) {
+                for (Object value : (Collection<?>) arg) {
+                    setPreparedStatement(preparedStatement, position, value);
+                    position++;
+                }
+            } else {
+                setPreparedStatement(preparedStatement, position, arg);
+                position++;
+            }
+        }
+    }
+
     public static Class<?> getCollectionGenericType(Field field) {
         Type type = field.getGenericType();
 
@@ -159,28 +260,108 @@ public class SQLUtils {
         throw new RuntimeException("Não foi possível descobrir tipo genérico de " + field.getName());
     }
 
-    protected static void copyJoinColumns(Object parent, Object child, Field oneToManyField) throws IllegalAccessException {
-        JoinColumns joinColumns = oneToManyField.getAnnotation(JoinColumns.class);
-        if (joinColumns == null) return;
+    protected static List<List<Object>> keysOf(List<ColumnMetadata> primaryKeys, Collection<?> ids) {
+        Set<List<Object>> keys = new LinkedHashSet<>();
+
+        for (Object id : ids) {
+            List<Object> key;
 
-        for (JoinColumn joinColumn : joinColumns.value()) {
-            String referencedColumn = joinColumn.referencedColumnName();
-            Field parentField = findFieldByColumn(parent, referencedColumn);
-            Field childField = findFieldByColumn(child, joinColumn.name());
+            if (id instanceof List) {
+                @SuppressWarnings("unchecked")
+                List<Object> list = (List<Object>) id;
+                key = list;
+            } else {
+                key = Collections.singletonList(id);
+            }
 
-            if (parentField == null) {
-                throw new RuntimeException("JoinColumn inválido: '" + joinColumn.name() + "' não existente na tabela pai.");
+            if (key.size() != primaryKeys.size()) {
+                throw new IllegalArgumentException("The amount PK invalid.");
             }
 
-            if (childField == null) {
-                throw new RuntimeException("JoinColumn inválido: '" + joinColumn.name() + "' não existente na tabela filha.");
+            for (Object value : key) {
+                if (Objects.isNull(value)) {
+                    throw new IllegalArgumentException("Valor do @PrimaryKey é nulo");
+                }
             }
 
-            parentField.setAccessible(true);
-            childField.setAccessible(true);
+            keys.add(key);
+        }
+
+        return new ArrayList<>(keys);
+    }
+
+    protected static int keyChunkSize(List<ColumnMetadata> primaryKeys, Dialect dialect) {
+        int maxBindParameters = Math.min(DBConfig.getMaxBindParameters(), dialect.maxBindParameters());
+        return Math.max(1, Math.min(DBConfig.getBatchSize(), maxBindParameters / primaryKeys.size()));
+    }
+
+    protected static int paddedSize(int size, int chunkSize) {
+        return size == chunkSize ? chunkSize : Math.min(chunkSize, Integer.highestOneBit(size * 2 - 1));
+    }
+
+    protected static String keyInClause(List<ColumnMetadata> primaryKeys, String prefix, int size, Dialect dialect) {
+        if (primaryKeys.size() == 1) {
+            StringJoiner whereClause = new StringJoiner(", ", prefix + primaryKeys.get(0).getName() + " IN (", ")");
+
+            for (int i = 0; i < size; i++) {
+                whereClause.add("?");
+            }
+
+            return whereClause.toString();
+        }
+
+        StringJoiner tuple = new StringJoiner(", ", "(", ")");
+        StringJoiner keyClause = new StringJoiner(" AND ", "(", ")");
+
+        for (ColumnMetadata column : primaryKeys) {
+            tuple.add(prefix + column.getName());
+            keyClause.add(prefix + column.getName() + " = ?");
+        }
+
+        if (dialect.supportsRowValueIn()) {
+            StringJoiner values = new StringJoiner(", ", "(", ")");
+
+            for (ColumnMetadata ignored : primaryKeys) {
+                values.add("?");
+            }
+
+            StringJoiner whereClause = new StringJoiner(", ", tuple + " IN (", ")");
+
+            for (int i = 0; i < size; i++) {
+                whereClause.add(values.toString());
+            }
+
+            return whereClause.toString();
+        }
+
+        StringJoiner whereClause = new StringJoiner(" OR ", "(", ")");
+
+        for (int i = 0; i < size; i++) {
+            whereClause.add(keyClause.toString());
+        }
+
+        return whereClause.toString();
+    }
+
+    protected static void bindKeys(PreparedStatement preparedStatement, List<List<Object>> chunk, int size) throws SQLException {
+        int position = 1;
+
+        for (int i = 0; i < size; i++) {
+            for (Object value : chunk.get(Math.min(i, chunk.size() - 1))) {
+                setPreparedStatement(preparedStatement, position++, value);
+            }
+        }
+    }
+
+    protected static void copyJoinColumns(Object parent, Object child, JoinMetadata join) {
+        if (!join.isJoinColumnsPresent()) return;
+
+        ColumnMetadata[] parentColumns = join.getParentColumns(EntityMetadata.of(parent.getClass()));
+        ColumnMetadata[] childColumns = join.getChildColumns();
 
-            Object value = parentField.get(parent);
-            childField.set(child, value);
+        for (int i = 0; i < parentColumns.length; i++) {
+            Object value = parentColumns[i].get(parent);
+            childColumns[i].set(child, value);
         }
     }
 
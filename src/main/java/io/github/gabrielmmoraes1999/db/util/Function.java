@@ -27,6 +27,24 @@ public class Function {
         return listGenericType;
     }
 
+    public static Class<?> getParameterClassList(Method method, int index) {
+        Type type = method.getGenericParameterTypes()[index];
+
+        if (!(type instanceof ParameterizedType)) {
+            return null;
+        }
+
+        Type typeArgument = ((ParameterizedType) type).getActualTypeArguments()[0];
+
+        if (typeArgument instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) typeArgument).getRawType();
+        } else if (typeArgument instanceof Class<?>) {
+            return (Class<?>) typeArgument;
+        }
+
+        return null;
+    }
+
     public static Class<?> getGenericType(Field field) {
         if (!(field.getGenericType() instanceof ParameterizedType)) {
             return null;